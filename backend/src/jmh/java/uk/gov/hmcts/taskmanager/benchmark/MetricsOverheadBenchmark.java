@@ -0,0 +1,98 @@
+package uk.gov.hmcts.taskmanager.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.taskmanager.TaskManagerApplication;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.service.TaskService;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full HTTP round trips with the metrics surface on and off
+ * ({@code taskmanager.metrics.enabled}), so the cost of request histograms,
+ * service timers and Hibernate statistics shows up as the difference between
+ * the two parameter values. Logging is left as configured, so any per-session
+ * statistics logging is measured too.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+    private static final int TASKS = 1000;
+
+    @Param({"true", "false"})
+    private boolean metricsEnabled;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private List<HttpRequest> getRequests;
+    private HttpRequest listRequest;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+            .run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--taskmanager.cache.enabled=false",
+                "--taskmanager.metrics.enabled=" + metricsEnabled);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String base = "http://localhost:" + port + "/api/tasks";
+
+        TaskService taskService = context.getBean(TaskService.class);
+        TaskRequest request = new TaskRequest("Review hearing bundle", "Case AB-1234 needs a hearing date",
+            TaskStatus.TODO, LocalDateTime.of(2026, 2, 1, 10, 0));
+        getRequests = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Long id = taskService.createTask(request).getId();
+            getRequests.add(HttpRequest.newBuilder(URI.create(base + "/" + id)).build());
+        }
+        listRequest = HttpRequest.newBuilder(URI.create(base + "/page?limit=50")).build();
+        client = HttpClient.newHttpClient();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String getTaskById() throws IOException, InterruptedException {
+        next = (next + 1) % TASKS;
+        return client.send(getRequests.get(next), HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    @Benchmark
+    public String getTaskPage() throws IOException, InterruptedException {
+        return client.send(listRequest, HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
@@ -0,0 +1,44 @@
+package uk.gov.hmcts.taskmanager.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.Task;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping an entity to the API representation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMappingBenchmark {
+
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 9, 0);
+        task = new Task(1L, "Review hearing bundle", "Case AB-1234 needs a hearing date", TaskStatus.TODO,
+            now.plusDays(7), now, now, 0L, 0L);
+    }
+
+    @Benchmark
+    public TaskResponse fromTask() {
+        return TaskResponse.fromTask(task);
+    }
+}
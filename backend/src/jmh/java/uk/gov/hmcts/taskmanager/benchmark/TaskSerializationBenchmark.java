@@ -0,0 +1,69 @@
+package uk.gov.hmcts.taskmanager.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of task lists as the controllers return them, with the
+ * ObjectMapper defaults Spring Boot applies (ISO-8601 date/times, not timestamps).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private ObjectWriter listWriter;
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> tasks;
+    private LocalDateTime dueDateTime;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, TaskResponse.class));
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0, 0, 123_456_000);
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskResponse((long) i, "Review hearing bundle " + i, "Case AB-" + i + " needs a hearing date",
+                TaskStatus.values()[i % TaskStatus.values().length], base.plusHours(i), base, base.plusMinutes(i), 0L));
+        }
+        dueDateTime = base;
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] serializeDateTime() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dueDateTime);
+    }
+}
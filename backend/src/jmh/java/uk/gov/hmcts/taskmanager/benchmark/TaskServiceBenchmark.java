@@ -0,0 +1,106 @@
+package uk.gov.hmcts.taskmanager.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.taskmanager.TaskManagerApplication;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.service.TaskService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskService CRUD through the full Spring/JPA stack against embedded H2, with
+ * and without the read-through cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+
+    private static final int TASKS = 1000;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRequest request;
+    private List<Long> ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--taskmanager.cache.enabled=" + cacheEnabled);
+        taskService = context.getBean(TaskService.class);
+        request = new TaskRequest("Review hearing bundle", "Case AB-1234 needs a hearing date", TaskStatus.TODO,
+            LocalDateTime.of(2026, 2, 1, 10, 0));
+        ids = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            ids.add(taskService.createTask(request).getId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponse getTaskById() {
+        return taskService.getTaskById(nextId());
+    }
+
+    @Benchmark
+    public List<TaskResponse> getAllTasks() {
+        return taskService.getAllTasks();
+    }
+
+    @Benchmark
+    public TaskResponse updateTask() {
+        return taskService.updateTask(nextId(), request, null);
+    }
+
+    @Benchmark
+    public TaskResponse updateTaskStatus() {
+        return taskService.updateTaskStatus(nextId(), STATUSES[next % STATUSES.length], null);
+    }
+
+    /** Create and delete together, so the table stays the same size. */
+    @Benchmark
+    public void createAndDeleteTask() {
+        taskService.deleteTask(taskService.createTask(request).getId());
+    }
+
+    private Long nextId() {
+        next = (next + 1) % TASKS;
+        return ids.get(next);
+    }
+}
@@ -0,0 +1,98 @@
+package uk.gov.hmcts.taskmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encode and decode time of a task list in each negotiated response format,
+ * with the mappers configured as the application configures them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskWireFormatBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    @Param({"json", "json+gzip", "cbor", "cbor+gzip"})
+    private String format;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private boolean gzip;
+    private List<TaskResponse> tasks;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = format.startsWith("cbor")
+            ? Jackson2ObjectMapperBuilder.json()
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+            : Jackson2ObjectMapperBuilder.json().build();
+        CollectionType listType = mapper.getTypeFactory().constructCollectionType(List.class, TaskResponse.class);
+        writer = mapper.writerFor(listType);
+        reader = mapper.readerFor(listType);
+        gzip = format.endsWith("+gzip");
+
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0, 0, 123_456_000);
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskResponse((long) i, "Review hearing bundle " + i, "Case AB-" + i + " needs a hearing date",
+                TaskStatus.values()[i % TaskStatus.values().length], base.plusHours(i), base, base.plusMinutes(i), 0L));
+        }
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            writer.writeValue(out, tasks);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<TaskResponse> decode() throws IOException {
+        InputStream in = new ByteArrayInputStream(encoded);
+        try (InputStream body = gzip ? new GZIPInputStream(in) : in) {
+            return reader.readValue(body);
+        }
+    }
+}
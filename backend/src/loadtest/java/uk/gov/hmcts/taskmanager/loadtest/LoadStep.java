@@ -0,0 +1,111 @@
+package uk.gov.hmcts.taskmanager.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Offers requests at a fixed rate for a fixed time (open model): each request
+ * is sent at its scheduled instant whether or not earlier ones have completed,
+ * and its latency is measured from that instant, so a stalled server shows up
+ * as queueing delay instead of a slower request rate (no coordinated omission).
+ */
+final class LoadStep {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final int rate;
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Histogram total = newHistogram();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong inFlight = new AtomicLong();
+    private long sent;
+    private long elapsedNanos;
+
+    LoadStep(int rate) {
+        this.rate = rate;
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, newHistogram());
+        }
+    }
+
+    /** Runs the step, then waits for outstanding requests to complete. */
+    LoadStep run(TaskApiClient client, OperationMix mix, Duration duration) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = mix.pick(random);
+            long scheduledAt = intended;
+            inFlight.incrementAndGet();
+            sent++;
+            client.send(operation).whenComplete((status, failure) -> {
+                record(operation, System.nanoTime() - scheduledAt,
+                    failure == null && status >= 200 && status < 300);
+                inFlight.decrementAndGet();
+            });
+        }
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        elapsedNanos = System.nanoTime() - start;
+        errors.addAndGet(inFlight.get());
+        return this;
+    }
+
+    private void record(Operation operation, long latencyNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(micros);
+        total.recordValue(micros);
+        completed.incrementAndGet();
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    int rate() {
+        return rate;
+    }
+
+    long sent() {
+        return sent;
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    /** Successful responses per second over the step, including the drain. */
+    double achievedRate() {
+        return (completed.get() - errors.get()) * 1e9 / elapsedNanos;
+    }
+
+    /** Latencies in microseconds across all operations. */
+    Histogram total() {
+        return total;
+    }
+
+    /** Latencies in microseconds per operation. */
+    Map<Operation, Histogram> histograms() {
+        return histograms;
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+}
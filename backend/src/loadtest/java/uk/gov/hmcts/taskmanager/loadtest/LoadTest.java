@@ -0,0 +1,142 @@
+package uk.gov.hmcts.taskmanager.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.taskmanager.TaskManagerApplication;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Finds the saturation point of the task API. Boots the application on
+ * embedded H2 (unless {@code loadtest.url} points at a running server), seeds
+ * tasks, then steps through the offered rates in {@code loadtest.rates},
+ * stopping once the server can no longer keep up or p99 exceeds
+ * {@code loadtest.slo-p99-ms}.
+ *
+ * <p>Writes to {@code loadtest.output}: an HdrHistogram percentile distribution
+ * per rate and operation ({@code rate-<n>/<operation>.hgrm}, plottable with
+ * HdrHistogram's plotter) and {@code curve.csv}, the throughput-vs-latency
+ * curve across all steps.
+ */
+public final class LoadTest {
+
+    private static final double SATURATED_FRACTION = 0.95;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        String baseUrl = settings.baseUrl();
+        if (baseUrl.isEmpty()) {
+            context = boot();
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+        try {
+            run(settings, baseUrl);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext boot() {
+        return new SpringApplicationBuilder(TaskManagerApplication.class)
+            .run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN");
+    }
+
+    private static void run(LoadTestSettings settings, String baseUrl) throws IOException, InterruptedException {
+        TaskApiClient client = new TaskApiClient(baseUrl);
+        client.seed(settings.seedTasks());
+        System.out.printf("Driving %s with mix %s, %d tasks seeded%n", baseUrl, settings.mix(), client.liveTasks());
+
+        if (!settings.warmup().isZero()) {
+            new LoadStep(settings.rates().get(0)).run(client, settings.mix(), settings.warmup());
+        }
+
+        Files.createDirectories(settings.outputDir());
+        List<LoadStep> steps = new ArrayList<>();
+        System.out.printf("%10s %10s %8s %10s %10s %10s %10s %10s%n",
+            "offered/s", "achieved/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (int rate : settings.rates()) {
+            LoadStep step = new LoadStep(rate).run(client, settings.mix(), settings.step());
+            steps.add(step);
+            Histogram total = step.total();
+            System.out.printf("%10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                rate, step.achievedRate(), step.errors(),
+                millis(total, 50), millis(total, 90), millis(total, 99), millis(total, 99.9),
+                total.getMaxValue() / 1000.0);
+            writeHistograms(settings.outputDir().resolve("rate-" + rate), step);
+            if (saturated(step, settings)) {
+                System.out.printf("Saturated at %d req/s%n", rate);
+                break;
+            }
+        }
+        writeCurve(settings.outputDir().resolve("curve.csv"), steps);
+
+        LoadStep sustained = steps.stream()
+            .filter(step -> !saturated(step, settings))
+            .reduce((first, second) -> second)
+            .orElse(null);
+        System.out.println(sustained == null
+            ? "No rate met the SLO"
+            : String.format(Locale.ROOT, "Highest rate within p99 %.0f ms: %d req/s",
+                settings.sloP99Millis(), sustained.rate()));
+        System.out.println("Reports written to " + settings.outputDir().toAbsolutePath());
+    }
+
+    private static boolean saturated(LoadStep step, LoadTestSettings settings) {
+        return step.achievedRate() < step.rate() * SATURATED_FRACTION
+            || millis(step.total(), 99) > settings.sloP99Millis();
+    }
+
+    private static void writeHistograms(Path directory, LoadStep step) throws IOException {
+        Files.createDirectories(directory);
+        writeHistogram(directory.resolve("all.hgrm"), step.total());
+        for (Map.Entry<Operation, Histogram> entry : step.histograms().entrySet()) {
+            if (entry.getValue().getTotalCount() > 0) {
+                writeHistogram(directory.resolve(entry.getKey().label() + ".hgrm"), entry.getValue());
+            }
+        }
+    }
+
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            // Recorded in microseconds; report in milliseconds.
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static void writeCurve(Path file, List<LoadStep> steps) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("offered_rps,achieved_rps,sent,errors,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+            for (LoadStep step : steps) {
+                Histogram total = step.total();
+                out.printf(Locale.ROOT, "%d,%.1f,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                    step.rate(), step.achievedRate(), step.sent(), step.errors(),
+                    millis(total, 50), millis(total, 90), millis(total, 99), millis(total, 99.9),
+                    total.getMaxValue() / 1000.0);
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,46 @@
+package uk.gov.hmcts.taskmanager.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load test parameters, read from {@code loadtest.*} system properties.
+ *
+ * @param baseUrl       server to drive; empty to boot the application in-process on embedded H2
+ * @param rates         offered request rates per second, one step each, in order
+ * @param warmup        unrecorded run at the first rate before the first step
+ * @param step          recorded run length at each rate
+ * @param mix           operation weights
+ * @param seedTasks     tasks created before the run so reads and writes have targets
+ * @param sloP99Millis  p99 latency above which the system counts as saturated
+ * @param outputDir     where histograms and the throughput/latency curve are written
+ */
+record LoadTestSettings(
+    String baseUrl,
+    List<Integer> rates,
+    Duration warmup,
+    Duration step,
+    OperationMix mix,
+    int seedTasks,
+    double sloP99Millis,
+    Path outputDir
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            System.getProperty("loadtest.url", "").trim(),
+            Arrays.stream(System.getProperty("loadtest.rates", "50,100,200,400,800").split(","))
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .toList(),
+            Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10)),
+            Duration.ofSeconds(Long.getLong("loadtest.step-seconds", 30)),
+            OperationMix.parse(System.getProperty("loadtest.mix",
+                "get:50,list:10,create:10,update:10,status:15,delete:5")),
+            Integer.getInteger("loadtest.seed-tasks", 1000),
+            Double.parseDouble(System.getProperty("loadtest.slo-p99-ms", "100")),
+            Path.of(System.getProperty("loadtest.output", "target/loadtest")));
+    }
+}
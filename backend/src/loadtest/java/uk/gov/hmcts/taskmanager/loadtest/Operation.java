@@ -0,0 +1,24 @@
+package uk.gov.hmcts.taskmanager.loadtest;
+
+import java.util.Locale;
+
+/**
+ * Task API calls the load generator can issue. {@code LIST} reads one page
+ * ({@code /api/tasks/page}) so its cost does not grow with the table.
+ */
+enum Operation {
+    CREATE,
+    GET,
+    LIST,
+    UPDATE,
+    STATUS,
+    DELETE;
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static Operation fromLabel(String label) {
+        return valueOf(label.trim().toUpperCase(Locale.ROOT));
+    }
+}
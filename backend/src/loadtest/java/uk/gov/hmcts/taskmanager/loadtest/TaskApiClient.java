@@ -0,0 +1,162 @@
+package uk.gov.hmcts.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Issues task API calls over HTTP and keeps the ids of live tasks, so gets,
+ * updates and deletes target rows that exist.
+ */
+final class TaskApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "COMPLETED", "CANCELLED"};
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private final HttpClient client;
+    private final ObjectMapper mapper;
+    private final String tasksUrl;
+    private final IdPool ids = new IdPool();
+
+    TaskApiClient(String baseUrl) {
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .build();
+        this.mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.tasksUrl = baseUrl + "/api/tasks";
+    }
+
+    /** Creates {@code count} tasks through the batch endpoint and remembers their ids. */
+    void seed(int count) throws IOException, InterruptedException {
+        for (int created = 0; created < count; created += SEED_BATCH_SIZE) {
+            List<Map<String, Object>> batch = new ArrayList<>();
+            for (int i = created; i < Math.min(count, created + SEED_BATCH_SIZE); i++) {
+                batch.add(taskBody(i));
+            }
+            HttpResponse<String> response = client.send(
+                json(URI.create(tasksUrl + "/batch")).POST(body(batch)).build(),
+                HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("Seeding failed with HTTP " + response.statusCode() + ": " + response.body());
+            }
+            for (JsonNode result : mapper.readTree(response.body()).path("results")) {
+                ids.add(result.path("id").asLong());
+            }
+        }
+    }
+
+    /**
+     * Sends one call asynchronously. Completes with the HTTP status, or
+     * exceptionally if the request could not be sent or timed out.
+     */
+    CompletableFuture<Integer> send(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = operation == Operation.DELETE ? ids.removeRandom(random) : ids.random(random);
+        if (id < 0 && operation != Operation.CREATE && operation != Operation.LIST) {
+            operation = Operation.CREATE;
+        }
+        HttpRequest request = switch (operation) {
+            case CREATE -> json(URI.create(tasksUrl)).POST(body(taskBody(random.nextInt()))).build();
+            case GET -> HttpRequest.newBuilder(URI.create(tasksUrl + "/" + id)).timeout(TIMEOUT).GET().build();
+            case LIST -> HttpRequest.newBuilder(URI.create(tasksUrl + "/page?limit=50")).timeout(TIMEOUT).GET().build();
+            case UPDATE -> json(URI.create(tasksUrl + "/" + id)).PUT(body(taskBody(random.nextInt()))).build();
+            case STATUS -> json(URI.create(tasksUrl + "/" + id + "/status"))
+                .method("PATCH", body(Map.of("status", STATUSES[random.nextInt(STATUSES.length)])))
+                .build();
+            case DELETE -> HttpRequest.newBuilder(URI.create(tasksUrl + "/" + id)).timeout(TIMEOUT).DELETE().build();
+        };
+        boolean create = operation == Operation.CREATE;
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .thenApply(response -> {
+                if (create && response.statusCode() == 201) {
+                    ids.add(readId(response.body()));
+                }
+                return response.statusCode();
+            });
+    }
+
+    int liveTasks() {
+        return ids.size();
+    }
+
+    private long readId(String body) {
+        try {
+            return mapper.readTree(body).path("id").asLong();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable create response: " + body, e);
+        }
+    }
+
+    private HttpRequest.Builder json(URI uri) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(TIMEOUT)
+            .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher body(Object value) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> taskBody(int n) {
+        return Map.of(
+            "title", "Load test task " + n,
+            "description", "Review hearing bundle for case LT-" + Math.floorMod(n, 100_000),
+            "status", "TODO",
+            "dueDateTime", LocalDateTime.now().plusDays(1 + Math.floorMod(n, 30)).withNano(0));
+    }
+
+    /** Unordered set of ids with O(1) random pick and removal. */
+    private static final class IdPool {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        synchronized void add(long id) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = id;
+        }
+
+        synchronized long random(ThreadLocalRandom random) {
+            return size == 0 ? -1 : values[random.nextInt(size)];
+        }
+
+        synchronized long removeRandom(ThreadLocalRandom random) {
+            if (size == 0) {
+                return -1;
+            }
+            int index = random.nextInt(size);
+            long id = values[index];
+            values[index] = values[--size];
+            return id;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+}
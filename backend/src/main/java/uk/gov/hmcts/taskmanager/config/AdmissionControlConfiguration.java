@@ -0,0 +1,26 @@
+package uk.gov.hmcts.taskmanager.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import uk.gov.hmcts.taskmanager.controller.AdmissionInterceptor;
+import uk.gov.hmcts.taskmanager.service.AdmissionControl;
+
+/**
+ * Puts the task API behind admission control. Streaming exports and the event
+ * feed only hold their slot until streaming starts.
+ */
+@Configuration
+public class AdmissionControlConfiguration implements WebMvcConfigurer {
+
+    private final AdmissionControl admissionControl;
+
+    public AdmissionControlConfiguration(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionInterceptor(admissionControl)).addPathPatterns("/api/**");
+    }
+}
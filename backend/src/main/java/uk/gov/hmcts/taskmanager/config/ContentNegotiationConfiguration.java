@@ -0,0 +1,25 @@
+package uk.gov.hmcts.taskmanager.config;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serves and accepts {@code application/cbor} alongside JSON. The CBOR mapper
+ * shares Spring Boot's Jackson settings but writes date/times as numeric
+ * arrays rather than ISO-8601 strings, which roughly halves their size.
+ */
+@Configuration
+public class ContentNegotiationConfiguration {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder
+            .factory(new CBORFactory())
+            .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build());
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.taskmanager.config;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+
+/**
+ * Settings for the {@code fast-startup} profile, which turns on lazy
+ * initialisation. The application's own beans stay eager: they serve the
+ * first request, load the in-memory indexes and run the scheduled jobs, none
+ * of which should wait for a request to create them. Framework extras such as
+ * actuator endpoints are created when first used.
+ *
+ * <p>An AOT-processed build fixes its bean definitions when it is built, so
+ * the read replica and sharding configurations, which are only included when
+ * their URLs are set, cannot be switched on at run time; startup fails rather
+ * than silently using a single database.
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfiguration {
+
+    private static final String APPLICATION_PACKAGE = "uk.gov.hmcts.taskmanager";
+
+    public FastStartupConfiguration(
+            @Value("${taskmanager.replicas.urls:}") List<String> replicaUrls,
+            @Value("${taskmanager.shards.urls:}") List<String> shardUrls) {
+        boolean multipleDatabases = replicaUrls.stream().anyMatch(url -> !url.isBlank())
+            || shardUrls.stream().anyMatch(url -> !url.isBlank());
+        if (AotDetector.useGeneratedArtifacts() && multipleDatabases) {
+            throw new IllegalStateException(
+                "Read replicas and sharding are not supported by the AOT-processed fast-startup build");
+        }
+    }
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerApplicationBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType.getPackageName().startsWith(APPLICATION_PACKAGE);
+    }
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.taskmanager.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Records {@code @Timed} methods. Disabled, along with Hibernate statistics and
+ * all meters, by {@code taskmanager.metrics.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskmanager.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfiguration {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import uk.gov.hmcts.taskmanager.datasource.ReadYourWritesFilter;
+import uk.gov.hmcts.taskmanager.datasource.Replica;
+import uk.gov.hmcts.taskmanager.datasource.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to read replicas, enabled by listing their JDBC
+ * URLs in {@code taskmanager.replicas.urls}. {@code spring.datasource} stays
+ * the primary and serves every other transaction. The physical connection is
+ * only fetched at a transaction's first statement, once it is known to be
+ * read-only, and then comes from {@link ReplicaRoutingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskmanager.replicas.urls")
+public class ReplicaRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${taskmanager.replicas.urls}") List<String> urls,
+            @Value("${taskmanager.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${taskmanager.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${taskmanager.replicas.maximum-pool-size:20}") int maximumPoolSize,
+            @Value("${taskmanager.replicas.connection-timeout:1s}") Duration connectionTimeout,
+            @Value("${taskmanager.replicas.max-lag:5s}") Duration maxLag) {
+        List<Replica> replicas = new ArrayList<>();
+        for (String url : urls) {
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(url);
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replicas.add(new Replica(name, replica));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter());
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
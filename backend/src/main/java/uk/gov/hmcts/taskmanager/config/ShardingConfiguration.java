@@ -0,0 +1,87 @@
+package uk.gov.hmcts.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import uk.gov.hmcts.taskmanager.datasource.ShardRoutingDataSource;
+import uk.gov.hmcts.taskmanager.datasource.ShardSchemaIntegrator;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spreads tasks over several databases, enabled by listing the JDBC URLs of
+ * shards 1 and up in {@code taskmanager.shards.urls}; {@code spring.datasource}
+ * is shard 0. Each shard has its own connection pool. A transaction's
+ * connection is only fetched at its first statement, from the shard the
+ * service layer has bound by then (see {@code TaskShards}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskmanager.shards.urls")
+public class ShardingConfiguration {
+
+    private final List<String> urls;
+
+    public ShardingConfiguration(
+            @Value("${taskmanager.shards.urls}") List<String> urls,
+            @Value("${taskmanager.replicas.urls:}") List<String> replicaUrls) {
+        if (replicaUrls.stream().anyMatch(url -> !url.isBlank())) {
+            throw new IllegalStateException("taskmanager.shards.urls cannot be combined with taskmanager.replicas.urls");
+        }
+        this.urls = urls;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${taskmanager.shards.username:${spring.datasource.username:}}") String username,
+            @Value("${taskmanager.shards.password:${spring.datasource.password:}}") String password,
+            @Value("${taskmanager.shards.maximum-pool-size:20}") int maximumPoolSize,
+            @Value("${taskmanager.shards.connection-timeout:5s}") Duration connectionTimeout) {
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(primaryDataSource);
+        for (String url : urls) {
+            HikariDataSource shard = new HikariDataSource();
+            shard.setPoolName("shard-" + shards.size());
+            shard.setJdbcUrl(url);
+            shard.setUsername(username);
+            shard.setPassword(password);
+            shard.setDriverClassName(properties.determineDriverClassName());
+            shard.setMaximumPoolSize(maximumPoolSize);
+            shard.setConnectionTimeout(connectionTimeout.toMillis());
+            shards.add(shard);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardDataSource) {
+        return new LazyConnectionDataSourceProxy(shardDataSource);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaCustomizer() {
+        ShardSchemaIntegrator integrator = new ShardSchemaIntegrator(urls.size() + 1);
+        return properties -> properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+            (IntegratorProvider) () -> List.of(integrator));
+    }
+}
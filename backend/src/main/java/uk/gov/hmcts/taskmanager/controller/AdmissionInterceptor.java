@@ -0,0 +1,66 @@
+package uk.gov.hmcts.taskmanager.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.hmcts.taskmanager.service.AdmissionControl;
+import uk.gov.hmcts.taskmanager.service.AdmissionControl.Permit;
+import uk.gov.hmcts.taskmanager.service.AdmissionControl.RequestClass;
+
+/**
+ * Admits each task API request through {@link AdmissionControl} before its
+ * handler runs and releases the slot when it completes. A shed request's
+ * exception is handled by {@code GlobalExceptionHandler} like any other.
+ * {@code GET /api/tasks/{id}} is a priority read; other reads are bulk, as are
+ * the {@code /batch} writes.
+ */
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT = AdmissionInterceptor.class.getName() + ".permit";
+    private static final String TASK_BY_ID = "/api/tasks/{id}";
+
+    private final AdmissionControl admissionControl;
+
+    public AdmissionInterceptor(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getAttribute(PERMIT) == null) {
+            request.setAttribute(PERMIT, admissionControl.admit(classify(request)));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        release(request);
+    }
+
+    private static RequestClass classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)) {
+            return TASK_BY_ID.equals(pattern) ? RequestClass.READ : RequestClass.BULK_READ;
+        }
+        return pattern != null && pattern.contains("/batch") ? RequestClass.BULK_WRITE : RequestClass.WRITE;
+    }
+
+    private static void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT) instanceof Permit permit) {
+            request.setAttribute(PERMIT, Boolean.TRUE);
+            permit.release();
+        }
+    }
+}
@@ -7,25 +7,53 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.taskmanager.dto.BatchResponse;
+import uk.gov.hmcts.taskmanager.dto.BatchStatusUpdate;
+import uk.gov.hmcts.taskmanager.dto.BatchTaskUpdate;
+import uk.gov.hmcts.taskmanager.dto.CacheStatsResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskChangesResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskFilter;
+import uk.gov.hmcts.taskmanager.dto.TaskPageResponse;
 import uk.gov.hmcts.taskmanager.dto.TaskRequest;
 import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskStatsResponse;
+import uk.gov.hmcts.taskmanager.exception.BadRequestException;
 import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.service.TaskBatchService;
+import uk.gov.hmcts.taskmanager.service.TaskEventFeed;
+import uk.gov.hmcts.taskmanager.service.TaskExportService;
 import uk.gov.hmcts.taskmanager.service.TaskService;
+import uk.gov.hmcts.taskmanager.service.TaskSyncService;
+import uk.gov.hmcts.taskmanager.service.TaskWritePipeline;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = {HttpHeaders.ETAG, HttpHeaders.RETRY_AFTER})
 @Tag(name = "Task Management", description = "APIs for managing caseworker tasks")
+@ApiResponse(responseCode = "503", description = "Request shed under load; retry after the Retry-After delay")
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskBatchService taskBatchService;
+    private final TaskEventFeed taskEventFeed;
+    private final TaskSyncService taskSyncService;
+    private final TaskWritePipeline taskWritePipeline;
 
     @PostMapping
     @Operation(summary = "Create a new task", description = "Creates a new task with the provided details")
@@ -34,67 +62,290 @@ public class TaskController {
         @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskRequest request) {
-        TaskResponse response = taskService.createTask(request);
+        TaskResponse response = taskWritePipeline.isEnabled()
+            ? taskWritePipeline.create(request)
+            : taskService.createTask(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get task by ID", description = "Retrieves a specific task by its ID")
+    @Operation(summary = "Get task by ID",
+        description = "Retrieves a specific task by its ID, including archived tasks. The ETag carries the task version; "
+            + "send it back in If-None-Match to get 304 Not Modified while the task is unchanged.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Task found"),
+        @ApiResponse(responseCode = "304", description = "Task unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Task not found")
     })
     public ResponseEntity<TaskResponse> getTaskById(
             @Parameter(description = "Task ID") @PathVariable Long id) {
         TaskResponse response = taskService.getTaskById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
     }
 
     @GetMapping
-    @Operation(summary = "Get all tasks", description = "Retrieves all tasks in the system")
-    @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
+    @Operation(summary = "Get all tasks",
+        description = "Retrieves all tasks in the system. Send the returned ETag in If-None-Match to get "
+            + "304 Not Modified, without the list being loaded, while no task has changed.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "No task changed since the given ETag")
+    })
+    public ResponseEntity<List<TaskResponse>> getAllTasks(WebRequest webRequest) {
+        // Weak, because the list may be sent gzip-compressed and Tomcat will not compress under a strong ETag
+        String eTag = "W/\"" + taskService.getTaskListVersion() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         List<TaskResponse> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(eTag).body(tasks);
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of tasks",
+        description = "Retrieves tasks ordered by due date, optionally filtered by status, due date range "
+            + "and overdue-only. "
+            + "Pass the returned nextCursor to fetch the following page.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, page size or filter")
+    })
+    public ResponseEntity<TaskPageResponse> getTaskPage(
+            @Parameter(description = "Statuses to include") @RequestParam(required = false) Set<TaskStatus> status,
+            @Parameter(description = "Earliest due date/time (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @Parameter(description = "Latest due date/time (exclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @Parameter(description = "Only open tasks whose due date/time has passed")
+            @RequestParam(defaultValue = "false") boolean overdue,
+            @Parameter(description = "Continuation cursor from a previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of tasks to return") @RequestParam(required = false) Integer limit) {
+        TaskPageResponse page = taskService.getTaskPage(new TaskFilter(status, dueFrom, dueTo, overdue), cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/overdue")
+    @Operation(summary = "Get overdue tasks",
+        description = "Retrieves TODO and IN_PROGRESS tasks whose due date/time has passed, oldest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    public ResponseEntity<TaskPageResponse> getOverdueTasks(
+            @Parameter(description = "Continuation cursor from a previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of tasks to return") @RequestParam(required = false) Integer limit) {
+        TaskPageResponse page = taskService.getTaskPage(new TaskFilter(null, null, null, true), cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/archive")
+    @Operation(summary = "Get a page of archived tasks",
+        description = "Retrieves completed and cancelled tasks that have been moved to the archive, ordered by "
+            + "due date, optionally filtered by status and due date range. "
+            + "Pass the returned nextCursor to fetch the following page.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, page size or filter")
+    })
+    public ResponseEntity<TaskPageResponse> getArchivedTasks(
+            @Parameter(description = "Statuses to include") @RequestParam(required = false) Set<TaskStatus> status,
+            @Parameter(description = "Earliest due date/time (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @Parameter(description = "Latest due date/time (exclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @Parameter(description = "Continuation cursor from a previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of tasks to return") @RequestParam(required = false) Integer limit) {
+        TaskPageResponse page = taskService.getArchivedTaskPage(new TaskFilter(status, dueFrom, dueTo, false), cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search tasks",
+        description = "Finds tasks whose title or description contains every word of the query, "
+            + "matching word prefixes, best match first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+        @ApiResponse(responseCode = "400", description = "Blank query or invalid limit")
+    })
+    public ResponseEntity<List<TaskResponse>> searchTasks(
+            @Parameter(description = "Words to search for") @RequestParam String q,
+            @Parameter(description = "Maximum number of tasks to return") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(taskService.searchTasks(q, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all tasks",
+        description = "Streams every task as newline-delimited JSON, one task per line, ordered by ID")
+    @ApiResponse(responseCode = "200", description = "Export streamed successfully")
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = out -> taskExportService.exportTasks(out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get task changes since a watermark",
+        description = "Returns tasks created or updated and IDs of tasks deleted after the given watermark, "
+            + "oldest change first, with a new watermark to pass next time. Omit since for a first sync. "
+            + "If reset is true the watermark was too old and the local copy must be rebuilt. "
+            + "Pass a stable clientId so deletes are kept until this client has seen them.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changes retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid watermark, client ID or limit")
+    })
+    public ResponseEntity<TaskChangesResponse> getTaskChanges(
+            @Parameter(description = "Watermark from a previous response") @RequestParam(required = false) String since,
+            @Parameter(description = "Stable identifier of the syncing client") @RequestParam(required = false) String clientId,
+            @Parameter(description = "Maximum number of changes to return") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(taskSyncService.getChanges(since, clientId, limit));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream task changes",
+        description = "Server-Sent Events feed of committed creates, updates, status changes and deletes. "
+            + "Reconnect with Last-Event-ID to replay missed changes; a 'resync' event means they are no "
+            + "longer available and the task list should be reloaded.")
+    @ApiResponse(responseCode = "200", description = "Event stream opened")
+    public SseEmitter streamTaskEvents(
+            @Parameter(description = "ID of the last event received")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return taskEventFeed.subscribe(lastEventId);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get task counts",
+        description = "Returns the number of tasks per status and the number of overdue tasks. "
+            + "Served from in-memory counters without querying the database.")
+    @ApiResponse(responseCode = "200", description = "Counts retrieved successfully")
+    public ResponseEntity<TaskStatsResponse> getTaskStats() {
+        return ResponseEntity.ok(taskService.getTaskStats());
+    }
+
+    @GetMapping("/cache/stats")
+    @Operation(summary = "Get task cache statistics",
+        description = "Returns hit, miss and eviction counts for the task-by-ID cache")
+    @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(taskService.getCacheStats());
     }
 
     @PatchMapping("/{id}/status")
-    @Operation(summary = "Update task status", description = "Updates the status of a specific task")
+    @Operation(summary = "Update task status",
+        description = "Updates the status of a specific task, only if it still matches the If-Match ETag when given")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Task status updated successfully"),
-        @ApiResponse(responseCode = "404", description = "Task not found")
+        @ApiResponse(responseCode = "400", description = "No status given"),
+        @ApiResponse(responseCode = "404", description = "Task not found"),
+        @ApiResponse(responseCode = "409", description = "Task changed by a concurrent request, or archived"),
+        @ApiResponse(responseCode = "412", description = "Task no longer matches the If-Match ETag")
     })
     public ResponseEntity<TaskResponse> updateTaskStatus(
             @Parameter(description = "Task ID") @PathVariable Long id,
+            @Parameter(description = "ETag of the task version being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody Map<String, TaskStatus> statusUpdate) {
         TaskStatus status = statusUpdate.get("status");
-        TaskResponse response = taskService.updateTaskStatus(id, status);
-        return ResponseEntity.ok(response);
+        TaskResponse response = taskService.updateTaskStatus(id, status, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Update task", description = "Updates all fields of a specific task")
+    @Operation(summary = "Update task",
+        description = "Updates all fields of a specific task, only if it still matches the If-Match ETag when given")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Task updated successfully"),
         @ApiResponse(responseCode = "404", description = "Task not found"),
-        @ApiResponse(responseCode = "400", description = "Invalid request data")
+        @ApiResponse(responseCode = "400", description = "Invalid request data"),
+        @ApiResponse(responseCode = "409", description = "Task changed by a concurrent request, or archived"),
+        @ApiResponse(responseCode = "412", description = "Task no longer matches the If-Match ETag")
     })
     public ResponseEntity<TaskResponse> updateTask(
             @Parameter(description = "Task ID") @PathVariable Long id,
+            @Parameter(description = "ETag of the task version being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskRequest request) {
-        TaskResponse response = taskService.updateTask(id, request);
-        return ResponseEntity.ok(response);
+        TaskResponse response = taskService.updateTask(id, request, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete task", description = "Deletes a specific task")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Task deleted successfully"),
-        @ApiResponse(responseCode = "404", description = "Task not found")
+        @ApiResponse(responseCode = "404", description = "Task not found"),
+        @ApiResponse(responseCode = "409", description = "Task is archived")
     })
     public ResponseEntity<Void> deleteTask(
             @Parameter(description = "Task ID") @PathVariable Long id) {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create tasks in bulk",
+        description = "Creates up to 1000 tasks in one transaction and reports the outcome of each item")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Batch empty or too large")
+    })
+    public ResponseEntity<BatchResponse> createTasks(@RequestBody List<TaskRequest> requests) {
+        return ResponseEntity.ok(taskBatchService.createTasks(requests));
+    }
+
+    @PutMapping("/batch")
+    @Operation(summary = "Update tasks in bulk",
+        description = "Updates all fields of up to 1000 tasks in one transaction and reports the outcome of each item")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Batch empty or too large")
+    })
+    public ResponseEntity<BatchResponse> updateTasks(@RequestBody List<BatchTaskUpdate> updates) {
+        return ResponseEntity.ok(taskBatchService.updateTasks(updates));
+    }
+
+    @PatchMapping("/batch/status")
+    @Operation(summary = "Update task statuses in bulk",
+        description = "Updates the status of up to 1000 tasks in one transaction and reports the outcome of each item")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Batch empty or too large")
+    })
+    public ResponseEntity<BatchResponse> updateTaskStatuses(@RequestBody List<BatchStatusUpdate> updates) {
+        return ResponseEntity.ok(taskBatchService.updateStatuses(updates));
+    }
+
+    @DeleteMapping("/batch")
+    @Operation(summary = "Delete tasks in bulk",
+        description = "Deletes up to 1000 tasks by ID in one statement and reports the outcome of each item")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Batch empty or too large")
+    })
+    public ResponseEntity<BatchResponse> deleteTasks(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(taskBatchService.deleteTasks(ids));
+    }
+
+    private static String eTag(TaskResponse task) {
+        return "\"" + task.getVersion() + "\"";
+    }
+
+    /**
+     * Reads the task version from an If-Match header; {@code null} when the
+     * header is absent or {@code *}.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid If-Match header: " + ifMatch);
+        }
+    }
 }
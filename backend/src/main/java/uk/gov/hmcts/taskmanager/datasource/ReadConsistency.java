@@ -0,0 +1,97 @@
+package uk.gov.hmcts.taskmanager.datasource;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * How fresh a replica has to be to serve the current thread's reads, in terms
+ * of task change sequences. A replica can serve a read only once it has
+ * applied every change up to {@link #requiredPosition()}.
+ *
+ * <p>A {@link Session} spans one client request: it carries the position the
+ * client last wrote at, so the client reads its own writes, and collects the
+ * positions written during the request to send back. {@link #atLeast} raises
+ * the requirement for a block of reads, and {@link #fromPrimary} rules out
+ * replicas entirely for reads that seed in-memory state.
+ */
+public final class ReadConsistency {
+
+    private static final ThreadLocal<Session> SESSION = new ThreadLocal<>();
+    private static final ThreadLocal<Long> REQUIRED = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    public static Session open(long readAfter) {
+        Session session = new Session(readAfter);
+        SESSION.set(session);
+        return session;
+    }
+
+    public static void close() {
+        SESSION.remove();
+    }
+
+    /** The current thread's session, or {@code null} outside one. */
+    public static Session current() {
+        return SESSION.get();
+    }
+
+    public static void recordWrite(long position) {
+        Session session = SESSION.get();
+        if (session != null) {
+            session.recordWrite(position);
+        }
+    }
+
+    public static long requiredPosition() {
+        Session session = SESSION.get();
+        Long required = REQUIRED.get();
+        long position = required == null ? 0 : required;
+        return session == null ? position : Math.max(position, Math.max(session.readAfter, session.lastWrite()));
+    }
+
+    public static <T> T atLeast(long position, Supplier<T> reads) {
+        Long previous = REQUIRED.get();
+        REQUIRED.set(previous == null ? position : Math.max(previous, position));
+        try {
+            return reads.get();
+        } finally {
+            if (previous == null) {
+                REQUIRED.remove();
+            } else {
+                REQUIRED.set(previous);
+            }
+        }
+    }
+
+    public static void fromPrimary(Runnable reads) {
+        atLeast(Long.MAX_VALUE, () -> {
+            reads.run();
+            return null;
+        });
+    }
+
+    public static final class Session {
+
+        private final long readAfter;
+        private final AtomicLong lastWrite = new AtomicLong();
+
+        private Session(long readAfter) {
+            this.readAfter = readAfter;
+        }
+
+        public long readAfter() {
+            return readAfter;
+        }
+
+        /** Highest position written in this session, 0 if none. */
+        public long lastWrite() {
+            return lastWrite.get();
+        }
+
+        public void recordWrite(long position) {
+            lastWrite.accumulateAndGet(position, Math::max);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package uk.gov.hmcts.taskmanager.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Lets a client read its own writes when reads may be served by a replica.
+ * A response to a request that wrote tasks sets the {@value #COOKIE} cookie to
+ * the change sequence written; while a client sends it back, its reads only go
+ * to replicas that have applied that change. The cookie is added before the
+ * response is committed, which happens once the write has committed.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "task-read-after";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReadConsistency.Session session = ReadConsistency.open(readAfter(request));
+        StampingResponse stampingResponse = new StampingResponse(response, session);
+        try {
+            chain.doFilter(request, stampingResponse);
+            stampingResponse.stamp();
+        } finally {
+            ReadConsistency.close();
+        }
+    }
+
+    private static long readAfter(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Math.max(Long.parseLong(cookie.getValue()), 0);
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /** Adds the cookie just before anything could commit the response. */
+    private static final class StampingResponse extends HttpServletResponseWrapper {
+
+        private final ReadConsistency.Session session;
+        private boolean stamped;
+
+        StampingResponse(HttpServletResponse response, ReadConsistency.Session session) {
+            super(response);
+            this.session = session;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            stamp();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            stamp();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            stamp();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            stamp();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            stamp();
+            super.sendError(sc);
+        }
+
+        void stamp() {
+            long written = session.lastWrite();
+            if (stamped || written <= session.readAfter() || isCommitted()) {
+                return;
+            }
+            stamped = true;
+            addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toString(written))
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build()
+                .toString());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package uk.gov.hmcts.taskmanager.datasource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+/**
+ * A read replica and what was last learned about it: the primary's change
+ * watermark as of the newest heartbeat it has applied, and when the primary
+ * wrote that heartbeat. A replica that fails is down until its next
+ * successful heartbeat check.
+ */
+public class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean up;
+    private volatile long position;
+    private volatile LocalDateTime heartbeatAt;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isUp() {
+        return up;
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public LocalDateTime heartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public void caughtUp(long position, LocalDateTime heartbeatAt) {
+        this.position = position;
+        this.heartbeatAt = heartbeatAt;
+        this.up = true;
+    }
+
+    public void down() {
+        this.up = false;
+    }
+
+    /**
+     * Whether this replica has applied every change up to {@code position} and
+     * its newest heartbeat was written no earlier than {@code oldestHeartbeat}.
+     */
+    boolean canServe(long position, LocalDateTime oldestHeartbeat) {
+        LocalDateTime heartbeat = heartbeatAt;
+        return up && this.position >= position && heartbeat != null && !heartbeat.isBefore(oldestHeartbeat);
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.taskmanager.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connections for read-only transactions. Replicas take turns serving them,
+ * skipping any that are down, lag by more than {@code maxLag} or have not yet
+ * applied {@link ReadConsistency#requiredPosition()}; the primary serves the
+ * read when no replica can. A replica that refuses a connection is marked down
+ * and the next one is tried. Closing it closes the replica pools.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        long required = ReadConsistency.requiredPosition();
+        LocalDateTime oldestHeartbeat = LocalDateTime.now().minus(maxLag);
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.canServe(required, oldestHeartbeat)) {
+                continue;
+            }
+            try {
+                return source.connect(replica.dataSource());
+            } catch (SQLException e) {
+                log.warn("Replica {} refused a connection; reading from the primary until it recovers",
+                    replica.name(), e);
+                replica.down();
+            }
+        }
+        return source.connect(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
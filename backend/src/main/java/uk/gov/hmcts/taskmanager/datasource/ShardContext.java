@@ -0,0 +1,68 @@
+package uk.gov.hmcts.taskmanager.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * The shard the current thread's database work goes to. Connections fetched
+ * while no shard is bound come from shard 0, which also holds the tables that
+ * are not sharded.
+ */
+public final class ShardContext {
+
+    /** Shard {@code index} of {@code count}. */
+    public record Shard(int index, int count) {
+    }
+
+    private static final ThreadLocal<Shard> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /** The bound shard, or {@code null} if none is. */
+    public static Shard current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T on(Shard shard, Supplier<T> work) {
+        Shard previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Binds the current transaction to {@code shard} until it completes. Must
+     * be called before the transaction's first statement, since that fetches
+     * the connection.
+     */
+    public static void bindToTransaction(Shard shard) {
+        Shard bound = CURRENT.get();
+        if (bound != null) {
+            if (!bound.equals(shard)) {
+                throw new IllegalStateException("Transaction is bound to shard " + bound.index()
+                    + " and cannot also use shard " + shard.index());
+            }
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Shard routing requires a transaction");
+        }
+        CURRENT.set(shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                CURRENT.remove();
+            }
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.hmcts.taskmanager.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Connections from the pool of the shard bound in {@link ShardContext}, or of
+ * shard 0 when none is bound. Closing it closes the pools of shards 1 and up;
+ * shard 0 is managed on its own.
+ */
+public class ShardRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return shard().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return shard().getConnection(username, password);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource shard : shards.subList(1, shards.size())) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private DataSource shard() {
+        ShardContext.Shard shard = ShardContext.current();
+        if (shard == null) {
+            return shards.get(0);
+        }
+        if (shard.count() != shards.size()) {
+            throw new IllegalStateException("Shard " + shard.index() + " of " + shard.count()
+                + " does not match the " + shards.size() + " configured shards");
+        }
+        return shards.get(shard.index());
+    }
+}
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.taskmanager.datasource;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+
+/**
+ * Applies Hibernate's schema management ({@code spring.jpa.hibernate.ddl-auto})
+ * to shards 1 and up; Hibernate itself only manages the schema of the
+ * connection it is given, shard 0. Drops on shutdown only happen on shard 0.
+ */
+public class ShardSchemaIntegrator implements Integrator {
+
+    private final int shardCount;
+
+    public ShardSchemaIntegrator(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        for (int index = 1; index < shardCount; index++) {
+            ShardContext.on(new ShardContext.Shard(index, shardCount), () -> {
+                SchemaManagementToolCoordinator.process(metadata, sessionFactory.getServiceRegistry(),
+                    sessionFactory.getProperties(), action -> {
+                    });
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
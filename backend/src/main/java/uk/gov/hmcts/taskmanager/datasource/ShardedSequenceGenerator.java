@@ -0,0 +1,58 @@
+package uk.gov.hmcts.taskmanager.datasource;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Sequence-based IDs that record the shard a row was written to: while a
+ * shard is bound, the ID is {@code n * count + index}, where {@code n} comes
+ * from that shard's own sequence, so {@code id % count} is the shard. Each
+ * shard hands out values from its own block of {@code increment_size}. With no
+ * shard bound this is a plain {@link SequenceStyleGenerator}.
+ */
+public class ShardedSequenceGenerator extends SequenceStyleGenerator {
+
+    private final Map<Integer, Block> blocks = new ConcurrentHashMap<>();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        ShardContext.Shard shard = ShardContext.current();
+        if (shard == null || shard.count() == 1) {
+            return super.generate(session, object);
+        }
+        int blockSize = getDatabaseStructure().getIncrementSize();
+        long value = blocks.computeIfAbsent(shard.index(), index -> new Block())
+            .next(() -> getDatabaseStructure().buildCallback(session).getNextValue().makeValue().longValue(), blockSize);
+        return value * shard.count() + shard.index();
+    }
+
+    /**
+     * Values {@code [next, end)} fetched from one shard's sequence and not yet
+     * used. Refilling queries the database, so it holds a lock rather than a
+     * monitor, which would pin a virtual thread's carrier for the round trip.
+     */
+    private static final class Block {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long end;
+
+        long next(LongSupplier sequence, int size) {
+            lock.lock();
+            try {
+                if (next == end) {
+                    next = sequence.getAsLong();
+                    end = next + size;
+                }
+                return next++;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.taskmanager.dto;
+
+public enum BatchItemOutcome {
+    CREATED,
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    INVALID
+}
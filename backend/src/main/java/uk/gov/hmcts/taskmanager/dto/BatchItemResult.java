@@ -0,0 +1,46 @@
+package uk.gov.hmcts.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult {
+
+    private int index;
+    private Long id;
+    private BatchItemOutcome outcome;
+    private TaskResponse task;
+    private String message;
+    private Map<String, String> validationErrors;
+
+    public boolean isSuccess() {
+        return outcome != BatchItemOutcome.NOT_FOUND && outcome != BatchItemOutcome.INVALID;
+    }
+
+    public static BatchItemResult created(int index, TaskResponse task) {
+        return new BatchItemResult(index, task.getId(), BatchItemOutcome.CREATED, task, null, null);
+    }
+
+    public static BatchItemResult updated(int index, Long id) {
+        return new BatchItemResult(index, id, BatchItemOutcome.UPDATED, null, null, null);
+    }
+
+    public static BatchItemResult deleted(int index, Long id) {
+        return new BatchItemResult(index, id, BatchItemOutcome.DELETED, null, null, null);
+    }
+
+    public static BatchItemResult notFound(int index, Long id) {
+        return new BatchItemResult(index, id, BatchItemOutcome.NOT_FOUND, null,
+            "Task not found with id: " + id, null);
+    }
+
+    public static BatchItemResult invalid(int index, Long id, Map<String, String> validationErrors) {
+        return new BatchItemResult(index, id, BatchItemOutcome.INVALID, null,
+            "Validation failed", validationErrors);
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse {
+
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResult> results;
+
+    public static BatchResponse of(List<BatchItemResult> results) {
+        List<BatchItemResult> ordered = results.stream()
+            .sorted(Comparator.comparingInt(BatchItemResult::getIndex))
+            .toList();
+        int succeeded = (int) ordered.stream().filter(BatchItemResult::isSuccess).count();
+        return new BatchResponse(succeeded, ordered.size() - succeeded, ordered);
+    }
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.taskmanager.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchStatusUpdate {
+
+    @NotNull(message = "Task ID is required")
+    private Long id;
+
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+}
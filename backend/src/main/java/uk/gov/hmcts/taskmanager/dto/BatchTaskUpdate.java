@@ -0,0 +1,20 @@
+package uk.gov.hmcts.taskmanager.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTaskUpdate {
+
+    @NotNull(message = "Task ID is required")
+    private Long id;
+
+    @Valid
+    @NotNull(message = "Task details are required")
+    private TaskRequest task;
+}
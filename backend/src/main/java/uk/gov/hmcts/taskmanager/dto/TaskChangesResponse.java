@@ -0,0 +1,27 @@
+package uk.gov.hmcts.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of delta sync. {@code tasks} were created or updated and
+ * {@code deletedIds} were deleted after the requested watermark; pass
+ * {@code watermark} as {@code since} next time. While {@code hasMore} is true
+ * further changes are waiting. {@code reset} means the requested watermark is
+ * too old to sync from, so the client must discard its copy and rebuild it
+ * from this and the following pages.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesResponse {
+
+    private List<TaskResponse> tasks;
+    private List<Long> deletedIds;
+    private String watermark;
+    private boolean hasMore;
+    private boolean reset;
+}
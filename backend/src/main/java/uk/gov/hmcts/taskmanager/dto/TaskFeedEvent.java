@@ -0,0 +1,27 @@
+package uk.gov.hmcts.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of a {@code /api/tasks/events} message. {@code type} is one of
+ * {@code created}, {@code updated}, {@code status}, {@code deleted} or
+ * {@code resync}; {@code task} is the task after the change and is
+ * {@code null} for {@code deleted} and {@code resync}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFeedEvent {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String STATUS = "status";
+    public static final String DELETED = "deleted";
+    public static final String RESYNC = "resync";
+
+    private String type;
+    private Long taskId;
+    private TaskResponse task;
+}
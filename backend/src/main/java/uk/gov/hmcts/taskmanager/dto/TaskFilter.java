@@ -0,0 +1,20 @@
+package uk.gov.hmcts.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+
+    private Set<TaskStatus> statuses;
+    private LocalDateTime dueFrom;
+    private LocalDateTime dueTo;
+    private boolean overdue;
+}
@@ -3,6 +3,7 @@ package uk.gov.hmcts.taskmanager.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import uk.gov.hmcts.taskmanager.model.ArchivedTask;
 import uk.gov.hmcts.taskmanager.model.Task;
 import uk.gov.hmcts.taskmanager.model.TaskStatus;
 
@@ -20,6 +21,7 @@ public class TaskResponse {
     private LocalDateTime dueDateTime;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public static TaskResponse fromTask(Task task) {
         return new TaskResponse(
@@ -29,7 +31,21 @@ public class TaskResponse {
             task.getStatus(),
             task.getDueDateTime(),
             task.getCreatedAt(),
-            task.getUpdatedAt()
+            task.getUpdatedAt(),
+            task.getVersion()
+        );
+    }
+
+    public static TaskResponse fromArchivedTask(ArchivedTask task) {
+        return new TaskResponse(
+            task.getId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus(),
+            task.getDueDateTime(),
+            task.getCreatedAt(),
+            task.getUpdatedAt(),
+            task.getVersion()
         );
     }
 }
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsResponse {
+
+    private Map<TaskStatus, Long> byStatus;
+    private long total;
+    private long overdue;
+    private LocalDateTime reconciledAt;
+}
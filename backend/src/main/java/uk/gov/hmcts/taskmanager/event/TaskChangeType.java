@@ -0,0 +1,7 @@
+package uk.gov.hmcts.taskmanager.event;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
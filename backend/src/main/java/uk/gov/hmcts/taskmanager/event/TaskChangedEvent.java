@@ -0,0 +1,26 @@
+package uk.gov.hmcts.taskmanager.event;
+
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+
+/**
+ * Published by the service layer for every task write. Listeners that keep
+ * derived state (caches, counters, indexes) should use
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ *
+ * @param previous the task before the write, or {@code null} for {@link TaskChangeType#CREATED}
+ * @param task     the task as written, or {@code null} for {@link TaskChangeType#DELETED}
+ */
+public record TaskChangedEvent(TaskChangeType type, Long taskId, TaskResponse previous, TaskResponse task) {
+
+    public static TaskChangedEvent created(TaskResponse task) {
+        return new TaskChangedEvent(TaskChangeType.CREATED, task.getId(), null, task);
+    }
+
+    public static TaskChangedEvent updated(TaskResponse previous, TaskResponse task) {
+        return new TaskChangedEvent(TaskChangeType.UPDATED, task.getId(), previous, task);
+    }
+
+    public static TaskChangedEvent deleted(TaskResponse previous) {
+        return new TaskChangedEvent(TaskChangeType.DELETED, previous.getId(), previous, null);
+    }
+}
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.taskmanager.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when an open task's due date/time passes.
+ */
+public record TaskOverdueEvent(Long taskId, LocalDateTime dueDateTime) {
+}
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.taskmanager.exception;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.taskmanager.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
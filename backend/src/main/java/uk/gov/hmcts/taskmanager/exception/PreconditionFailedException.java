@@ -0,0 +1,7 @@
+package uk.gov.hmcts.taskmanager.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
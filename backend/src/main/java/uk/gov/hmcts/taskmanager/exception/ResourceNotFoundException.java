@@ -1,7 +1,12 @@
 package uk.gov.hmcts.taskmanager.exception;
 
+/**
+ * Thrown for lookups of tasks that do not exist. Misses are an expected,
+ * client-driven outcome mapped straight to 404, so the exception carries no
+ * stack trace and is cheap to create.
+ */
 public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.taskmanager.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request is shed under load. Thrown often while the service is
+ * overloaded, so it skips capturing a stack trace.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.hmcts.taskmanager.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A completed or cancelled task moved out of {@code tasks} by the
+ * {@code TaskArchiver}. Keeps the task's ID and last state, and is never
+ * changed again.
+ */
+@Entity
+@Immutable
+@Table(name = "task_archive", indexes = {
+    @Index(name = "idx_task_archive_due_date_time_id", columnList = "dueDateTime, id"),
+    @Index(name = "idx_task_archive_status_due_date_time_id", columnList = "status, dueDateTime, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime dueDateTime;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.taskmanager.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Single row naming the instance that issues change sequences. The holder
+ * renews it at a fixed interval; another instance may only take it over once
+ * it has not been renewed for the lease TTL.
+ */
+@Entity
+@Table(name = "change_log_lease")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogLease {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime renewedAt;
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.taskmanager.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Single row rewritten on the primary at a fixed interval. Reading it back
+ * from a replica tells how far that replica has caught up: every change up to
+ * {@code watermark} had committed before the row was written.
+ */
+@Entity
+@Table(name = "replica_heartbeat")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplicaHeartbeat {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private long watermark;
+
+    @Column(nullable = false)
+    private LocalDateTime writtenAt;
+}
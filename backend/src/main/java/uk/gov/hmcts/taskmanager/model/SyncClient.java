@@ -0,0 +1,33 @@
+package uk.gov.hmcts.taskmanager.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A delta sync client and the change sequence it has caught up to. Tombstones
+ * are kept until every client seen recently has passed them.
+ */
+@Entity
+@Table(name = "sync_clients")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncClient {
+
+    @Id
+    @Column(length = 100)
+    private String clientId;
+
+    @Column(nullable = false)
+    private long watermark;
+
+    @Column(nullable = false)
+    private LocalDateTime lastSeenAt;
+}
@@ -6,18 +6,30 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import uk.gov.hmcts.taskmanager.datasource.ShardedSequenceGenerator;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_due_date_time_id", columnList = "dueDateTime, id"),
+    @Index(name = "idx_tasks_status_due_date_time_id", columnList = "status, dueDateTime, id"),
+    @Index(name = "idx_tasks_change_seq", columnList = "changeSeq")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+    /** When tasks are sharded, {@code id % shard count} is the shard the task lives on. */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "task_seq")
+    @GenericGenerator(name = "task_seq", type = ShardedSequenceGenerator.class, parameters = {
+        @Parameter(name = "sequence_name", value = "task_seq"),
+        @Parameter(name = "increment_size", value = "50")
+    })
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -42,6 +54,13 @@ public class Task {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
+    /** Position of the latest write to this task in the change log used for delta sync. */
+    @Column(nullable = false)
+    private long changeSeq;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
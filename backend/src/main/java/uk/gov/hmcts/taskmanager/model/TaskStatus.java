@@ -1,8 +1,24 @@
 package uk.gov.hmcts.taskmanager.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum TaskStatus {
     TODO,
     IN_PROGRESS,
     COMPLETED,
-    CANCELLED
+    CANCELLED;
+
+    public boolean isOpen() {
+        return this == TODO || this == IN_PROGRESS;
+    }
+
+    public static Set<TaskStatus> openStatuses() {
+        return EnumSet.of(TODO, IN_PROGRESS);
+    }
+
+    /** Statuses a task is finished in, and can be archived from. */
+    public static Set<TaskStatus> terminalStatuses() {
+        return EnumSet.of(COMPLETED, CANCELLED);
+    }
 }
@@ -0,0 +1,36 @@
+package uk.gov.hmcts.taskmanager.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records that a task was deleted, so delta sync can tell clients to drop it.
+ * Removed once every known sync client has moved past its change sequence.
+ */
+@Entity
+@Table(name = "task_tombstones", indexes = {
+    @Index(name = "idx_task_tombstones_change_seq", columnList = "changeSeq")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_tombstone_seq")
+    @SequenceGenerator(name = "task_tombstone_seq", sequenceName = "task_tombstone_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private long changeSeq;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+}
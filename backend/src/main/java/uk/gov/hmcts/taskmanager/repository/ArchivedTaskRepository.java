@@ -0,0 +1,46 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.ArchivedTask;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long>,
+        JpaSpecificationExecutor<ArchivedTask> {
+
+    @Query("SELECT new uk.gov.hmcts.taskmanager.dto.TaskResponse(a.id, a.title, a.description, a.status, "
+        + "a.dueDateTime, a.createdAt, a.updatedAt, a.version) FROM ArchivedTask a WHERE a.id = :id")
+    Optional<TaskResponse> findResponseById(Long id);
+
+    /** Archived tasks matching {@code spec}, at most {@code limit}, ordered by (dueDateTime, id). */
+    default List<ArchivedTask> findPage(Specification<ArchivedTask> spec, int limit) {
+        return findBy(spec, query -> query.sortBy(TaskRepository.KEYSET_ORDER).limit(limit).all());
+    }
+
+    /**
+     * Copies tasks into the archive with a single INSERT ... SELECT, so rows
+     * never pass through the application.
+     */
+    @Modifying
+    @Query("INSERT INTO ArchivedTask (id, title, description, status, dueDateTime, createdAt, updatedAt, version, archivedAt) "
+        + "SELECT t.id, t.title, t.description, t.status, t.dueDateTime, t.createdAt, t.updatedAt, t.version, "
+        + "LOCAL DATETIME FROM Task t WHERE t.id IN :ids")
+    int copyFromTasks(Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.id FROM ArchivedTask a")
+    Stream<Long> streamIds();
+}
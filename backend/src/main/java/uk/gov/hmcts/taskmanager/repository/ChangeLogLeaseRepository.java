@@ -0,0 +1,23 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.taskmanager.model.ChangeLogLease;
+
+import java.util.Optional;
+
+@Repository
+public interface ChangeLogLeaseRepository extends JpaRepository<ChangeLogLease, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM ChangeLogLease l WHERE l.id = :id")
+    Optional<ChangeLogLease> findForUpdate(Integer id);
+
+    @Modifying
+    @Query("DELETE FROM ChangeLogLease l WHERE l.id = :id AND l.owner = :owner")
+    int release(Integer id, String owner);
+}
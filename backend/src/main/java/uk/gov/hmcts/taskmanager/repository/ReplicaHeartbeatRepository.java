@@ -0,0 +1,9 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.taskmanager.model.ReplicaHeartbeat;
+
+@Repository
+public interface ReplicaHeartbeatRepository extends JpaRepository<ReplicaHeartbeat, Integer> {
+}
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.taskmanager.model.SyncClient;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SyncClientRepository extends JpaRepository<SyncClient, String> {
+
+    /**
+     * Records that a client has caught up to {@code watermark}. The stored
+     * watermark never moves backwards.
+     *
+     * @return the number of rows updated, 0 if the client is not yet known
+     */
+    @Modifying
+    @Query("UPDATE SyncClient c SET c.watermark = CASE WHEN c.watermark < :watermark THEN :watermark "
+        + "ELSE c.watermark END, c.lastSeenAt = :seenAt WHERE c.clientId = :clientId")
+    int acknowledge(String clientId, long watermark, LocalDateTime seenAt);
+
+    @Query("SELECT MIN(c.watermark) FROM SyncClient c")
+    Long findMinWatermark();
+
+    @Query("SELECT COALESCE(MAX(c.watermark), 0) FROM SyncClient c")
+    long findMaxWatermark();
+
+    @Modifying
+    @Query("DELETE FROM SyncClient c WHERE c.lastSeenAt < :cutoff")
+    int deleteNotSeenSince(LocalDateTime cutoff);
+}
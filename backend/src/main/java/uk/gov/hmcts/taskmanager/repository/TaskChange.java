@@ -0,0 +1,17 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task as read for delta sync, with the change sequence of its latest write.
+ */
+public record TaskChange(long changeSeq, TaskResponse task) {
+
+    public TaskChange(long changeSeq, Long id, String title, String description, TaskStatus status,
+                      LocalDateTime dueDateTime, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this(changeSeq, new TaskResponse(id, title, description, status, dueDateTime, createdAt, updatedAt, version));
+    }
+}
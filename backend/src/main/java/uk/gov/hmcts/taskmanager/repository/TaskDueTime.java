@@ -0,0 +1,10 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import java.time.LocalDateTime;
+
+public interface TaskDueTime {
+
+    Long getId();
+
+    LocalDateTime getDueDateTime();
+}
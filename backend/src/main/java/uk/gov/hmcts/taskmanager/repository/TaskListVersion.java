@@ -0,0 +1,12 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import java.time.LocalDateTime;
+
+public interface TaskListVersion {
+
+    long getCount();
+
+    LocalDateTime getLastUpdatedAt();
+
+    Long getVersionSum();
+}
@@ -1,9 +1,118 @@
 package uk.gov.hmcts.taskmanager.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
 import uk.gov.hmcts.taskmanager.model.Task;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
+
+    String RESPONSE_PROJECTION = "SELECT new uk.gov.hmcts.taskmanager.dto.TaskResponse("
+        + "t.id, t.title, t.description, t.status, t.dueDateTime, t.createdAt, t.updatedAt, t.version) FROM Task t";
+
+    Sort KEYSET_ORDER = Sort.by(Sort.Order.asc("dueDateTime"), Sort.Order.asc("id"));
+
+    /**
+     * Returns at most {@code limit} tasks matching {@code spec}, ordered by
+     * (dueDateTime, id). No count query is issued, so the cost of a page does
+     * not depend on how many rows precede it.
+     */
+    default List<Task> findPage(Specification<Task> spec, int limit) {
+        return findBy(spec, query -> query.sortBy(KEYSET_ORDER).limit(limit).all());
+    }
+
+    /**
+     * Reads every task straight into a {@link TaskResponse} without creating
+     * managed entities, so there is nothing for Hibernate to snapshot or flush.
+     */
+    @Query(RESPONSE_PROJECTION)
+    List<TaskResponse> findAllResponses();
+
+    /**
+     * Streams every task in id order from a JDBC cursor. Entities are loaded
+     * read-only so Hibernate keeps no dirty-check snapshots; callers must
+     * consume the stream inside a transaction and detach each task once used.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.id")
+    Stream<Task> streamAll();
+
+    @Query(RESPONSE_PROJECTION + " WHERE t.id IN :ids")
+    List<TaskResponse> findResponsesByIdIn(Collection<Long> ids);
+
+    /**
+     * Summarises the table for the collection ETag. Any create, update or delete
+     * changes at least one of the row count, latest update time or version sum.
+     */
+    @Query("SELECT COUNT(t) AS count, MAX(t.updatedAt) AS lastUpdatedAt, SUM(t.version) AS versionSum FROM Task t")
+    TaskListVersion findListVersion();
+
+    /**
+     * Tasks whose latest write has a change sequence in {@code (after, upTo]},
+     * oldest change first. A range scan of {@code idx_tasks_change_seq}.
+     */
+    @Query("SELECT new uk.gov.hmcts.taskmanager.repository.TaskChange(t.changeSeq, t.id, t.title, t.description, "
+        + "t.status, t.dueDateTime, t.createdAt, t.updatedAt, t.version) FROM Task t "
+        + "WHERE t.changeSeq > :after AND t.changeSeq <= :upTo ORDER BY t.changeSeq")
+    List<TaskChange> findChanges(long after, long upTo, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(t.changeSeq), 0) FROM Task t")
+    long findMaxChangeSeq();
+
+    /**
+     * Locks up to {@code limit} tasks in {@code statuses} last updated before
+     * {@code before}, so they cannot change while being archived. Once the
+     * archiver keeps up, few such rows are left, so the scan of the status
+     * index prefix stays short.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.status IN :statuses AND t.updatedAt < :before ORDER BY t.id")
+    List<Task> findArchivable(Collection<TaskStatus> statuses, LocalDateTime before, Limit limit);
+
+    @Query("SELECT t.status AS status, COUNT(t) AS total FROM Task t GROUP BY t.status")
+    List<TaskStatusCount> countByStatus();
+
+    /**
+     * Counts live and archived tasks per status in one statement, so both
+     * tables are read from the same snapshot and a task moved by a concurrent
+     * archive batch is counted exactly once.
+     */
+    @Query("SELECT u.status AS status, COUNT(*) AS total FROM ("
+        + "SELECT t.status AS status FROM Task t UNION ALL SELECT a.status AS status FROM ArchivedTask a) u "
+        + "GROUP BY u.status")
+    List<TaskStatusCount> countAllByStatus();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT t.id AS id, t.dueDateTime AS dueDateTime FROM Task t WHERE t.status IN :statuses")
+    Stream<TaskDueTime> streamDueTimesByStatusIn(Collection<TaskStatus> statuses);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description FROM Task t")
+    Stream<TaskText> streamText();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id FROM Task t")
+    Stream<Long> streamIds();
 }
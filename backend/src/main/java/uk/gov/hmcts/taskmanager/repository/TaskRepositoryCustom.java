@@ -0,0 +1,31 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Writes that complete in a single SQL statement and hand back the row as it
+ * was before the change, so callers can publish change events without first
+ * loading the task.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Sets the status, update time and change sequence and bumps the version
+     * of a task, optionally only if it is still at {@code expectedVersion}.
+     *
+     * @return the task before the update, or empty if no row matched
+     */
+    Optional<TaskResponse> updateStatusReturningPrevious(
+        Long id, TaskStatus status, LocalDateTime updatedAt, long changeSeq, Long expectedVersion);
+
+    /**
+     * Deletes a task.
+     *
+     * @return the deleted task, or empty if no row matched
+     */
+    Optional<TaskResponse> deleteReturningPrevious(Long id);
+}
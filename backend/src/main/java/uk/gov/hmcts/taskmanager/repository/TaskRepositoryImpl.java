@@ -0,0 +1,113 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single-statement status update and delete. The pre-change row is read in the
+ * same statement: H2 selects from the {@code OLD TABLE} of the data change, and
+ * PostgreSQL locks the row in a CTE and returns it from {@code RETURNING}.
+ */
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    private static final String COLUMNS =
+        "id, title, description, status, due_date_time, created_at, updated_at, version";
+    private static final String SET_STATUS =
+        "SET status = :status, updated_at = :updatedAt, change_seq = :changeSeq, version = version + 1";
+    private static final String VERSION_CHECK = " AND version = :version";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<TaskResponse> updateStatusReturningPrevious(
+            Long id, TaskStatus status, LocalDateTime updatedAt, long changeSeq, Long expectedVersion) {
+        String where = "WHERE id = :id" + (expectedVersion == null ? "" : VERSION_CHECK);
+        String sql = switch (dialect()) {
+            case H2 -> "SELECT " + COLUMNS + " FROM OLD TABLE (UPDATE tasks " + SET_STATUS + " " + where + ")";
+            case POSTGRESQL -> "WITH previous AS (SELECT " + COLUMNS + " FROM tasks " + where + " FOR UPDATE)"
+                + " UPDATE tasks t SET status = :status, updated_at = :updatedAt, change_seq = :changeSeq,"
+                + " version = t.version + 1"
+                + " FROM previous WHERE t.id = previous.id RETURNING " + COLUMNS.replaceAll("(\\w+)", "previous.$1");
+        };
+        NativeQuery<Object[]> query = nativeQuery(sql)
+            .setParameter("id", id)
+            .setParameter("status", status.name())
+            .setParameter("updatedAt", updatedAt)
+            .setParameter("changeSeq", changeSeq);
+        if (expectedVersion != null) {
+            query.setParameter("version", expectedVersion);
+        }
+        return single(query);
+    }
+
+    @Override
+    public Optional<TaskResponse> deleteReturningPrevious(Long id) {
+        String sql = switch (dialect()) {
+            case H2 -> "SELECT " + COLUMNS + " FROM OLD TABLE (DELETE FROM tasks WHERE id = :id)";
+            case POSTGRESQL -> "DELETE FROM tasks WHERE id = :id RETURNING " + COLUMNS;
+        };
+        return single(nativeQuery(sql).setParameter("id", id));
+    }
+
+    @SuppressWarnings("unchecked")
+    private NativeQuery<Object[]> nativeQuery(String sql) {
+        return entityManager.createNativeQuery(sql)
+            .unwrap(NativeQuery.class)
+            .addScalar("id", Long.class)
+            .addScalar("title", String.class)
+            .addScalar("description", String.class)
+            .addScalar("status", String.class)
+            .addScalar("due_date_time", LocalDateTime.class)
+            .addScalar("created_at", LocalDateTime.class)
+            .addScalar("updated_at", LocalDateTime.class)
+            .addScalar("version", Long.class);
+    }
+
+    private static Optional<TaskResponse> single(NativeQuery<Object[]> query) {
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        return Optional.of(new TaskResponse(
+            (Long) row[0],
+            (String) row[1],
+            (String) row[2],
+            TaskStatus.valueOf((String) row[3]),
+            (LocalDateTime) row[4],
+            (LocalDateTime) row[5],
+            (LocalDateTime) row[6],
+            (Long) row[7]
+        ));
+    }
+
+    private Database dialect() {
+        Dialect dialect = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect();
+        if (dialect instanceof H2Dialect) {
+            return Database.H2;
+        }
+        if (dialect instanceof PostgreSQLDialect) {
+            return Database.POSTGRESQL;
+        }
+        throw new IllegalStateException("Unsupported database dialect: " + dialect);
+    }
+
+    private enum Database {
+        H2, POSTGRESQL
+    }
+}
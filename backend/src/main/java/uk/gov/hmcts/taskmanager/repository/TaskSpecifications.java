@@ -0,0 +1,62 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Filters on task attributes, shared by live tasks and archived tasks.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static <T> Specification<T> statusIn(Collection<TaskStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static <T> Specification<T> dueOnOrAfter(LocalDateTime from) {
+        if (from == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDateTime"), from);
+    }
+
+    public static <T> Specification<T> dueBefore(LocalDateTime to) {
+        if (to == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThan(root.get("dueDateTime"), to);
+    }
+
+    /**
+     * Open (TODO or IN_PROGRESS) tasks whose due date/time is before {@code now}.
+     */
+    public static <T> Specification<T> overdue(LocalDateTime now) {
+        return TaskSpecifications.<T>statusIn(TaskStatus.openStatuses()).and(dueBefore(now));
+    }
+
+    /**
+     * Keyset predicate for rows strictly after (dueDateTime, id). The leading
+     * {@code dueDateTime >= ?} term is kept separate so the database can seek
+     * straight to the cursor position on the (due_date_time, id) index.
+     */
+    public static <T> Specification<T> after(LocalDateTime dueDateTime, Long id) {
+        if (dueDateTime == null || id == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.and(
+            cb.greaterThanOrEqualTo(root.get("dueDateTime"), dueDateTime),
+            cb.or(
+                cb.greaterThan(root.get("dueDateTime"), dueDateTime),
+                cb.greaterThan(root.get("id"), id)
+            )
+        );
+    }
+}
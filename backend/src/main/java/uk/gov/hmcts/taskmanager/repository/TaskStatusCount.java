@@ -0,0 +1,10 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+public interface TaskStatusCount {
+
+    TaskStatus getStatus();
+
+    long getTotal();
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+public interface TaskText {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+}
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.taskmanager.model.TaskTombstone;
+
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Tombstones with a change sequence in {@code (after, upTo]}, oldest first.
+     * A range scan of {@code idx_task_tombstones_change_seq}.
+     */
+    @Query("SELECT t FROM TaskTombstone t WHERE t.changeSeq > :after AND t.changeSeq <= :upTo ORDER BY t.changeSeq")
+    List<TaskTombstone> findChanges(long after, long upTo, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(t.changeSeq), 0) FROM TaskTombstone t")
+    long findMaxChangeSeq();
+
+    @Query("SELECT MIN(t.changeSeq) FROM TaskTombstone t")
+    Long findMinChangeSeq();
+
+    @Query("SELECT MAX(t.changeSeq) FROM TaskTombstone t WHERE t.changeSeq <= :upTo")
+    Long findMaxChangeSeqUpTo(long upTo);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.changeSeq <= :upTo")
+    int deleteUpTo(long upTo);
+}
@@ -0,0 +1,159 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adapts to measured latency (AIMD). While requests
+ * finish within the latency target and the limit is at least half used, each
+ * one raises the limit by {@code 1/limit}, roughly one per round of requests;
+ * a request slower than the target cuts it by 10%, at most once per target
+ * interval so a single burst of slow requests only counts once.
+ *
+ * <p>Requests over the limit wait up to the queue timeout, and no more of them
+ * wait than the limit allows in flight, so an overloaded limit rejects at once.
+ * Low-priority requests may only fill {@code lowPriorityShare} of the limit and
+ * never overtake waiting high-priority ones. Uses a lock rather than
+ * {@code synchronized} so waiting virtual threads do not pin their carrier.
+ */
+class AdaptiveConcurrencyLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final long queueTimeoutNanos;
+    private final double lowPriorityShare;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition highPriorityTurn = lock.newCondition();
+    private final Condition lowPriorityTurn = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private int highPriorityWaiting;
+    private int lowPriorityWaiting;
+    private long lastBackoffNanos;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyTarget,
+                             Duration queueTimeout, double lowPriorityShare) {
+        this(initialLimit, minLimit, maxLimit, latencyTarget, queueTimeout, lowPriorityShare, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyTarget,
+                             Duration queueTimeout, double lowPriorityShare, LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (lowPriorityShare <= 0 || lowPriorityShare > 1) {
+            throw new IllegalArgumentException("Low-priority share must be in (0, 1]");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTarget.toNanos();
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.lowPriorityShare = lowPriorityShare;
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+        this.lastBackoffNanos = nanoClock.getAsLong() - latencyTargetNanos;
+    }
+
+    /**
+     * Takes a slot, waiting up to the queue timeout for one, and returns
+     * whether it got one. A caller that gets one must call {@link #release}.
+     */
+    boolean tryAcquire(boolean highPriority) {
+        lock.lock();
+        try {
+            if (hasRoom(highPriority)) {
+                inFlight++;
+                return true;
+            }
+            if (queueTimeoutNanos <= 0 || highPriorityWaiting + lowPriorityWaiting >= (int) limit) {
+                return false;
+            }
+            long remaining = queueTimeoutNanos;
+            if (highPriority) {
+                highPriorityWaiting++;
+            } else {
+                lowPriorityWaiting++;
+            }
+            try {
+                while (remaining > 0) {
+                    remaining = (highPriority ? highPriorityTurn : lowPriorityTurn).awaitNanos(remaining);
+                    if (hasRoom(highPriority)) {
+                        inFlight++;
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                if (highPriority) {
+                    highPriorityWaiting--;
+                } else {
+                    lowPriorityWaiting--;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Frees a slot and adjusts the limit by how long its request took. */
+    void release(long latencyNanos) {
+        lock.lock();
+        try {
+            if (latencyNanos > latencyTargetNanos) {
+                long now = nanoClock.getAsLong();
+                if (now - lastBackoffNanos >= latencyTargetNanos) {
+                    limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                    lastBackoffNanos = now;
+                }
+            } else if (inFlight * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            inFlight--;
+            int room = (int) limit - inFlight;
+            for (int i = Math.min(room, highPriorityWaiting); i > 0; i--) {
+                highPriorityTurn.signal();
+            }
+            if (lowPriorityWaiting > 0 && hasRoom(false)) {
+                lowPriorityTurn.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasRoom(boolean highPriority) {
+        if (highPriority) {
+            return inFlight < (int) limit;
+        }
+        return highPriorityWaiting == 0 && inFlight < Math.max(1, (int) (limit * lowPriorityShare));
+    }
+}
@@ -0,0 +1,114 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.taskmanager.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Admits API requests against two adaptive concurrency limits, one for reads
+ * and one for writes, so a slow database sheds load with a quick {@code 503}
+ * instead of piling up requests until nothing responds. Single-task requests
+ * have priority over bulk ones sharing their limit. Admitted and shed requests
+ * are counted in {@code taskmanager.admission.requests}, and each limit and its
+ * in-flight count are published as gauges.
+ */
+@Component
+public class AdmissionControl {
+
+    public enum RequestClass {
+        READ(false, true),
+        BULK_READ(false, false),
+        WRITE(true, true),
+        BULK_WRITE(true, false);
+
+        private final boolean write;
+        private final boolean highPriority;
+
+        RequestClass(boolean write, boolean highPriority) {
+            this.write = write;
+            this.highPriority = highPriority;
+        }
+    }
+
+    /** A slot held by an admitted request; release it once the request completes. */
+    public interface Permit {
+
+        Permit NONE = () -> { };
+
+        void release();
+    }
+
+    private final boolean enabled;
+    private final Duration retryAfter;
+    private final AdaptiveConcurrencyLimit reads;
+    private final AdaptiveConcurrencyLimit writes;
+    private final Map<RequestClass, Counter> admitted = new EnumMap<>(RequestClass.class);
+    private final Map<RequestClass, Counter> shed = new EnumMap<>(RequestClass.class);
+
+    public AdmissionControl(
+            MeterRegistry meterRegistry,
+            @Value("${taskmanager.admission.enabled:true}") boolean enabled,
+            @Value("${taskmanager.admission.read-limit:40}") int readLimit,
+            @Value("${taskmanager.admission.write-limit:20}") int writeLimit,
+            @Value("${taskmanager.admission.min-limit:4}") int minLimit,
+            @Value("${taskmanager.admission.max-limit:400}") int maxLimit,
+            @Value("${taskmanager.admission.latency-target:500ms}") Duration latencyTarget,
+            @Value("${taskmanager.admission.queue-timeout:100ms}") Duration queueTimeout,
+            @Value("${taskmanager.admission.bulk-share:0.5}") double bulkShare,
+            @Value("${taskmanager.admission.retry-after:1s}") Duration retryAfter) {
+        this.enabled = enabled;
+        this.retryAfter = retryAfter;
+        this.reads = new AdaptiveConcurrencyLimit(readLimit, minLimit, maxLimit, latencyTarget, queueTimeout, bulkShare);
+        this.writes = new AdaptiveConcurrencyLimit(writeLimit, minLimit, maxLimit, latencyTarget, queueTimeout, bulkShare);
+        for (RequestClass requestClass : RequestClass.values()) {
+            String tag = requestClass.name().toLowerCase(Locale.ROOT);
+            admitted.put(requestClass, Counter.builder("taskmanager.admission.requests")
+                .description("API requests admitted or shed by admission control")
+                .tags("class", tag, "outcome", "admitted")
+                .register(meterRegistry));
+            shed.put(requestClass, Counter.builder("taskmanager.admission.requests")
+                .description("API requests admitted or shed by admission control")
+                .tags("class", tag, "outcome", "shed")
+                .register(meterRegistry));
+        }
+        registerGauges(meterRegistry, "read", reads);
+        registerGauges(meterRegistry, "write", writes);
+    }
+
+    /**
+     * Admits a request or throws {@link ServiceUnavailableException} if its
+     * limit is full and no slot frees up within the queue timeout.
+     */
+    public Permit admit(RequestClass requestClass) {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+        AdaptiveConcurrencyLimit limit = requestClass.write ? writes : reads;
+        if (!limit.tryAcquire(requestClass.highPriority)) {
+            shed.get(requestClass).increment();
+            throw new ServiceUnavailableException("The service is overloaded; retry later", retryAfter);
+        }
+        admitted.get(requestClass).increment();
+        long start = System.nanoTime();
+        return () -> limit.release(System.nanoTime() - start);
+    }
+
+    private static void registerGauges(MeterRegistry meterRegistry, String type, AdaptiveConcurrencyLimit limit) {
+        Gauge.builder("taskmanager.admission.limit", limit, AdaptiveConcurrencyLimit::limit)
+            .description("Current adaptive concurrency limit")
+            .tag("type", type)
+            .register(meterRegistry);
+        Gauge.builder("taskmanager.admission.in-flight", limit, AdaptiveConcurrencyLimit::inFlight)
+            .description("Requests currently admitted")
+            .tag("type", type)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import uk.gov.hmcts.taskmanager.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque delta sync watermark: the change sequence a client has caught up to.
+ */
+public record ChangeToken(long sequence) {
+
+    private static final String PREFIX = "c";
+
+    public String encode() {
+        String raw = PREFIX + sequence;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(raw);
+            }
+            long sequence = Long.parseLong(raw.substring(PREFIX.length()));
+            if (sequence < 0) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new ChangeToken(sequence);
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid change token: " + token);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hashed timing wheel of task due times. Time is divided into fixed ticks and
+ * each task is hashed into the bucket of the tick in which it falls due, so
+ * advancing the wheel by one tick costs one bucket lookup plus the tasks that
+ * actually expire in it, however many tasks are scheduled further out.
+ * Scheduling and cancelling are O(1). Not thread-safe; callers synchronize.
+ */
+public final class DueTimeWheel {
+
+    private final long tickMillis;
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+    private final Map<Long, Long> deadlines = new HashMap<>();
+    private long currentTick;
+
+    public DueTimeWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules (or reschedules) a task. Tasks fire on the first tick boundary
+     * at or after their due time, never early. Returns {@code false} without
+     * scheduling if the wheel has already passed that boundary.
+     */
+    public boolean schedule(long taskId, long dueMillis) {
+        cancel(taskId);
+        long tick = -Math.floorDiv(-dueMillis, tickMillis);
+        if (tick <= currentTick) {
+            return false;
+        }
+        buckets.computeIfAbsent(tick, key -> new HashSet<>()).add(taskId);
+        deadlines.put(taskId, tick);
+        return true;
+    }
+
+    public boolean cancel(long taskId) {
+        Long tick = deadlines.remove(taskId);
+        if (tick == null) {
+            return false;
+        }
+        Set<Long> bucket = buckets.get(tick);
+        bucket.remove(taskId);
+        if (bucket.isEmpty()) {
+            buckets.remove(tick);
+        }
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to {@code nowMillis} and returns the tasks that
+     * fell due in the ticks passed over.
+     */
+    public List<Long> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<Long> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            Set<Long> bucket = buckets.remove(currentTick);
+            if (bucket != null) {
+                for (Long taskId : bucket) {
+                    deadlines.remove(taskId);
+                    expired.add(taskId);
+                }
+            }
+        }
+        return expired;
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+}
@@ -0,0 +1,66 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-capacity log of the most recent events, numbered by a sequence that
+ * starts at 1. Appending to a full ring overwrites the oldest event, so a
+ * reader can resume from any sequence still in the window and must resync
+ * otherwise. Not thread-safe; {@link TaskEventFeed} guards it.
+ */
+class EventRing<T> {
+
+    private final Object[] items;
+    private long head;
+
+    EventRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.items = new Object[capacity];
+    }
+
+    /** Appends an event and returns its sequence. */
+    long append(T item) {
+        head++;
+        items[slot(head)] = item;
+        return head;
+    }
+
+    /** Sequence of the latest event, or 0 if none has been appended. */
+    long head() {
+        return head;
+    }
+
+    /** Sequence of the oldest event still held, or {@code head() + 1} if empty. */
+    long oldest() {
+        return Math.max(1, head - items.length + 1);
+    }
+
+    /**
+     * Whether every event after {@code sequence} is still held, i.e. a reader
+     * that has seen up to {@code sequence} can catch up without a gap.
+     */
+    boolean canResumeFrom(long sequence) {
+        return sequence >= oldest() - 1 && sequence <= head;
+    }
+
+    /** Up to {@code max} events after {@code sequence}, oldest first. */
+    @SuppressWarnings("unchecked")
+    List<T> after(long sequence, int max) {
+        if (!canResumeFrom(sequence)) {
+            throw new IllegalArgumentException("Sequence " + sequence + " is outside the retained window");
+        }
+        int count = (int) Math.min(max, head - sequence);
+        List<T> result = new ArrayList<>(count);
+        for (long next = sequence + 1; next <= sequence + count; next++) {
+            result.add((T) items[slot(next)]);
+        }
+        return result;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % items.length);
+    }
+}
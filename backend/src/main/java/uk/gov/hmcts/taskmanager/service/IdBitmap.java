@@ -0,0 +1,98 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Set of IDs in {@code [0, capacity)} held as one bit per ID. The bits live in
+ * 8 KB pages allocated when the first ID in their range is added, so memory
+ * follows the span of IDs in use rather than the capacity. Safe for concurrent
+ * use without locking.
+ */
+class IdBitmap {
+
+    private static final int PAGE_SHIFT = 16;
+    private static final int PAGE_WORDS = (1 << PAGE_SHIFT) / Long.SIZE;
+
+    private final long capacity;
+    private final AtomicReferenceArray<AtomicLongArray> pages;
+
+    IdBitmap(long capacity) {
+        if (capacity < 1 || (capacity - 1) >>> PAGE_SHIFT >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + ((long) Integer.MAX_VALUE << PAGE_SHIFT));
+        }
+        this.capacity = capacity;
+        this.pages = new AtomicReferenceArray<>((int) (((capacity - 1) >>> PAGE_SHIFT) + 1));
+    }
+
+    boolean covers(long id) {
+        return id >= 0 && id < capacity;
+    }
+
+    void add(long id) {
+        checkCovered(id);
+        int page = (int) (id >>> PAGE_SHIFT);
+        AtomicLongArray words = pages.get(page);
+        if (words == null) {
+            pages.compareAndSet(page, null, new AtomicLongArray(PAGE_WORDS));
+            words = pages.get(page);
+        }
+        long bit = bit(id);
+        words.getAndUpdate(word(id), value -> value | bit);
+    }
+
+    void remove(long id) {
+        checkCovered(id);
+        AtomicLongArray words = pages.get((int) (id >>> PAGE_SHIFT));
+        if (words != null) {
+            long bit = bit(id);
+            words.getAndUpdate(word(id), value -> value & ~bit);
+        }
+    }
+
+    boolean contains(long id) {
+        if (!covers(id)) {
+            return false;
+        }
+        AtomicLongArray words = pages.get((int) (id >>> PAGE_SHIFT));
+        return words != null && (words.get(word(id)) & bit(id)) != 0;
+    }
+
+    long size() {
+        long size = 0;
+        for (int page = 0; page < pages.length(); page++) {
+            AtomicLongArray words = pages.get(page);
+            if (words != null) {
+                for (int word = 0; word < PAGE_WORDS; word++) {
+                    size += Long.bitCount(words.get(word));
+                }
+            }
+        }
+        return size;
+    }
+
+    /** Bytes held by allocated pages. */
+    long allocatedBytes() {
+        long allocated = 0;
+        for (int page = 0; page < pages.length(); page++) {
+            if (pages.get(page) != null) {
+                allocated += PAGE_WORDS * (long) Long.BYTES;
+            }
+        }
+        return allocated;
+    }
+
+    private void checkCovered(long id) {
+        if (!covers(id)) {
+            throw new IllegalArgumentException("ID " + id + " is outside [0, " + capacity + ")");
+        }
+    }
+
+    private static int word(long id) {
+        return (int) (id & ((1 << PAGE_SHIFT) - 1)) >>> 6;
+    }
+
+    private static long bit(long id) {
+        return 1L << id;
+    }
+}
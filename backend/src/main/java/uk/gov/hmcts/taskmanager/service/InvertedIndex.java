@@ -0,0 +1,354 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over task titles and descriptions. Each term maps to a
+ * postings list of task IDs held as a sorted {@code long[]} with a parallel
+ * {@code byte[]} of term weights, so a posting costs nine bytes and new tasks,
+ * whose sequence IDs are higher than any indexed so far, append in O(1).
+ * Terms sit in a sorted dictionary so query words also match as prefixes.
+ * Results must contain every query word and are ranked by a BM25-style score
+ * in which title words count three times as much as description words.
+ * Not thread-safe; callers synchronize.
+ */
+public final class InvertedIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MAX_WEIGHT = Byte.MAX_VALUE;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final float PREFIX_MATCH_FACTOR = 0.5f;
+    private static final float[] WEIGHT_FACTORS = new float[MAX_WEIGHT + 1];
+
+    static {
+        for (int weight = 1; weight <= MAX_WEIGHT; weight++) {
+            WEIGHT_FACTORS[weight] = 1 + (float) Math.log(weight);
+        }
+    }
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private int documentCount;
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    public void add(long id, String title, String description) {
+        weights(title, description).forEach((term, weight) ->
+            terms.computeIfAbsent(term, key -> new Postings()).put(id, weight));
+        documentCount++;
+    }
+
+    public void remove(long id, String title, String description) {
+        for (String term : weights(title, description).keySet()) {
+            removePosting(term, id);
+        }
+        documentCount = Math.max(0, documentCount - 1);
+    }
+
+    /**
+     * Re-indexes a task, touching only the postings of terms whose weight changed.
+     */
+    public void update(long id, String oldTitle, String oldDescription, String title, String description) {
+        Map<String, Byte> before = weights(oldTitle, oldDescription);
+        Map<String, Byte> after = weights(title, description);
+        for (String term : before.keySet()) {
+            if (!after.containsKey(term)) {
+                removePosting(term, id);
+            }
+        }
+        after.forEach((term, weight) -> {
+            if (!weight.equals(before.get(term))) {
+                terms.computeIfAbsent(term, key -> new Postings()).put(id, weight);
+            }
+        });
+    }
+
+    /**
+     * Returns up to {@code limit} task IDs matching every word of the query,
+     * best match first.
+     */
+    public List<Long> search(String query, int limit) {
+        Set<String> words = new LinkedHashSet<>(tokenize(query));
+        if (words.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        List<Matches> perWord = new ArrayList<>(words.size());
+        for (String word : words) {
+            Matches matches = match(word);
+            if (matches.size == 0) {
+                return List.of();
+            }
+            perWord.add(matches);
+        }
+        perWord.sort(Comparator.comparingInt(matches -> matches.size));
+        Matches result = perWord.get(0);
+        for (int i = 1; i < perWord.size() && result.size > 0; i++) {
+            result = Matches.intersect(result, perWord.get(i));
+        }
+        return top(result, limit);
+    }
+
+    public int documentCount() {
+        return documentCount;
+    }
+
+    public int termCount() {
+        return terms.size();
+    }
+
+    public long postingCount() {
+        long count = 0;
+        for (Postings postings : terms.values()) {
+            count += postings.size;
+        }
+        return count;
+    }
+
+    private Matches match(String word) {
+        Map<String, Postings> candidates = word.length() < MIN_PREFIX_LENGTH
+            ? exact(word)
+            : terms.subMap(word, true, word + Character.MAX_VALUE, false);
+        List<Matches> matches = new ArrayList<>(candidates.size());
+        candidates.forEach((term, postings) ->
+            matches.add(score(postings, term.equals(word) ? 1f : PREFIX_MATCH_FACTOR)));
+        while (matches.size() > 1) {
+            List<Matches> merged = new ArrayList<>((matches.size() + 1) / 2);
+            for (int i = 0; i < matches.size(); i += 2) {
+                merged.add(i + 1 < matches.size() ? Matches.union(matches.get(i), matches.get(i + 1)) : matches.get(i));
+            }
+            matches.clear();
+            matches.addAll(merged);
+        }
+        return matches.isEmpty() ? Matches.EMPTY : matches.get(0);
+    }
+
+    private Map<String, Postings> exact(String word) {
+        Postings postings = terms.get(word);
+        return postings == null ? Map.of() : Map.of(word, postings);
+    }
+
+    private Matches score(Postings postings, float factor) {
+        float idf = (float) Math.log(1 + (documentCount - postings.size + 0.5) / (postings.size + 0.5));
+        float[] scores = new float[postings.size];
+        float termFactor = factor * idf;
+        for (int i = 0; i < postings.size; i++) {
+            scores[i] = termFactor * WEIGHT_FACTORS[postings.weights[i]];
+        }
+        return new Matches(postings.ids, scores, postings.size);
+    }
+
+    /**
+     * Picks the best {@code limit} matches with a fixed-size min-heap of
+     * indexes, so most candidates cost a single comparison with the weakest
+     * result kept so far.
+     */
+    private static List<Long> top(Matches matches, int limit) {
+        int[] heap = new int[Math.min(limit, matches.size)];
+        int size = 0;
+        for (int i = 0; i < matches.size; i++) {
+            if (size < heap.length) {
+                heap[size++] = i;
+                siftUp(matches, heap, size - 1);
+            } else if (better(matches, i, heap[0])) {
+                heap[0] = i;
+                siftDown(matches, heap, size);
+            }
+        }
+        Long[] ids = new Long[size];
+        while (size > 0) {
+            ids[size - 1] = matches.ids[heap[0]];
+            heap[0] = heap[--size];
+            siftDown(matches, heap, size);
+        }
+        return Arrays.asList(ids);
+    }
+
+    /** Higher score first, then the older (lower) task ID. */
+    private static boolean better(Matches matches, int a, int b) {
+        float scoreA = matches.scores[a];
+        float scoreB = matches.scores[b];
+        return scoreA > scoreB || (scoreA == scoreB && matches.ids[a] < matches.ids[b]);
+    }
+
+    private static void siftUp(Matches matches, int[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!better(matches, heap[parent], heap[index])) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(Matches matches, int[] heap, int size) {
+        int index = 0;
+        while (true) {
+            int weakest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && better(matches, heap[weakest], heap[left])) {
+                weakest = left;
+            }
+            if (right < size && better(matches, heap[weakest], heap[right])) {
+                weakest = right;
+            }
+            if (weakest == index) {
+                return;
+            }
+            swap(heap, index, weakest);
+            index = weakest;
+        }
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+
+    private void removePosting(String term, long id) {
+        Postings postings = terms.get(term);
+        if (postings != null && postings.remove(id) && postings.size == 0) {
+            terms.remove(term);
+        }
+    }
+
+    private static Map<String, Byte> weights(String title, String description) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String token : tokenize(title)) {
+            counts.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(description)) {
+            counts.merge(token, 1, Integer::sum);
+        }
+        Map<String, Byte> weights = new HashMap<>(counts.size() * 2);
+        counts.forEach((term, count) -> weights.put(term, (byte) Math.min(count, MAX_WEIGHT)));
+        return weights;
+    }
+
+    private static final class Postings {
+
+        private long[] ids = new long[2];
+        private byte[] weights = new byte[2];
+        private int size;
+
+        void put(long id, byte weight) {
+            if (size == 0 || ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size] = id;
+                weights[size] = weight;
+                size++;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                weights[index] = weight;
+                return;
+            }
+            int insertAt = -index - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            weights[insertAt] = weight;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+            size--;
+            if (size > 8 && size < ids.length / 4) {
+                ids = Arrays.copyOf(ids, ids.length / 2);
+                weights = Arrays.copyOf(weights, weights.length / 2);
+            }
+            return true;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                int capacity = ids.length + (ids.length >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+        }
+    }
+
+    /**
+     * Scored task IDs in ascending ID order.
+     */
+    private record Matches(long[] ids, float[] scores, int size) {
+
+        static final Matches EMPTY = new Matches(new long[0], new float[0], 0);
+
+        /** Tasks matching either side, keeping the better score. */
+        static Matches union(Matches a, Matches b) {
+            long[] ids = new long[a.size + b.size];
+            float[] scores = new float[a.size + b.size];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < a.size || j < b.size) {
+                if (j == b.size || (i < a.size && a.ids[i] < b.ids[j])) {
+                    ids[n] = a.ids[i];
+                    scores[n++] = a.scores[i++];
+                } else if (i == a.size || b.ids[j] < a.ids[i]) {
+                    ids[n] = b.ids[j];
+                    scores[n++] = b.scores[j++];
+                } else {
+                    ids[n] = a.ids[i];
+                    scores[n++] = Math.max(a.scores[i++], b.scores[j++]);
+                }
+            }
+            return new Matches(ids, scores, n);
+        }
+
+        /** Tasks matching both sides, adding the scores. */
+        static Matches intersect(Matches a, Matches b) {
+            int capacity = Math.min(a.size, b.size);
+            long[] ids = new long[capacity];
+            float[] scores = new float[capacity];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < a.size && j < b.size) {
+                if (a.ids[i] < b.ids[j]) {
+                    i++;
+                } else if (b.ids[j] < a.ids[i]) {
+                    j++;
+                } else {
+                    ids[n] = a.ids[i];
+                    scores[n++] = a.scores[i++] + b.scores[j++];
+                }
+            }
+            return new Matches(ids, scores, n);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.taskmanager.datasource.ReadConsistency;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+import uk.gov.hmcts.taskmanager.event.TaskOverdueEvent;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.repository.TaskDueTime;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Notices the moment open tasks become overdue. Due times of open tasks are
+ * held in a {@link DueTimeWheel} fed by committed task writes; each tick pops
+ * the tasks that have just expired, records them as overdue and publishes a
+ * {@link TaskOverdueEvent}. Nothing is scanned in the database after startup.
+ */
+@Slf4j
+@Component
+public class OverdueTracker {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TaskShards taskShards;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final DueTimeWheel wheel;
+    private final Map<Long, LocalDateTime> dueTimes = new HashMap<>();
+    private final Set<Long> overdue = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public OverdueTracker(
+            TaskRepository taskRepository,
+            PlatformTransactionManager transactionManager,
+            TaskShards taskShards,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${taskmanager.overdue.tick-ms:1000}") long tickMillis) {
+        this(taskRepository, transactionManager, taskShards, eventPublisher, tickMillis, Clock.systemDefaultZone());
+    }
+
+    OverdueTracker(
+            TaskRepository taskRepository,
+            PlatformTransactionManager transactionManager,
+            TaskShards taskShards,
+            ApplicationEventPublisher eventPublisher,
+            long tickMillis,
+            Clock clock) {
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.taskShards = taskShards;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.wheel = new DueTimeWheel(tickMillis, clock.millis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        taskShards.forEachShard(() -> ReadConsistency.fromPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TaskDueTime> dueTimes = taskRepository.streamDueTimesByStatusIn(TaskStatus.openStatuses())) {
+                dueTimes.forEach(task -> track(task.getId(), task.getDueDateTime(), false));
+            }
+        })));
+        log.info("Tracking {} open tasks, {} already overdue", scheduledCount(), overdueCount());
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskResponse task = event.task();
+        if (task == null || !task.getStatus().isOpen()) {
+            untrack(event.taskId());
+        } else {
+            track(task.getId(), task.getDueDateTime(), true);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${taskmanager.overdue.tick-ms:1000}")
+    public void tick() {
+        List<TaskOverdueEvent> expired;
+        lock.lock();
+        try {
+            List<Long> ids = wheel.advance(clock.millis());
+            expired = ids.stream()
+                .map(id -> new TaskOverdueEvent(id, dueTimes.remove(id)))
+                .toList();
+            overdue.addAll(ids);
+        } finally {
+            lock.unlock();
+        }
+        expired.forEach(eventPublisher::publishEvent);
+    }
+
+    public boolean isOverdue(Long taskId) {
+        return overdue.contains(taskId);
+    }
+
+    public long overdueCount() {
+        return overdue.size();
+    }
+
+    public int scheduledCount() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void track(Long taskId, LocalDateTime dueDateTime, boolean notify) {
+        long dueMillis = dueDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        boolean becameOverdue;
+        lock.lock();
+        try {
+            if (wheel.schedule(taskId, dueMillis)) {
+                dueTimes.put(taskId, dueDateTime);
+                overdue.remove(taskId);
+                return;
+            }
+            dueTimes.remove(taskId);
+            becameOverdue = overdue.add(taskId);
+        } finally {
+            lock.unlock();
+        }
+        if (becameOverdue && notify) {
+            eventPublisher.publishEvent(new TaskOverdueEvent(taskId, dueDateTime));
+        }
+    }
+
+    private void untrack(Long taskId) {
+        lock.lock();
+        try {
+            wheel.cancel(taskId);
+            dueTimes.remove(taskId);
+            overdue.remove(taskId);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.taskmanager.datasource.Replica;
+import uk.gov.hmcts.taskmanager.datasource.ReplicaRoutingDataSource;
+import uk.gov.hmcts.taskmanager.model.ReplicaHeartbeat;
+import uk.gov.hmcts.taskmanager.repository.ReplicaHeartbeatRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Measures how far each read replica has caught up. Each check first writes
+ * the primary's current change watermark to the heartbeat row, then reads the
+ * row back from every replica: a replica that has the heartbeat has every
+ * change up to its watermark. A replica whose heartbeat cannot be read is
+ * marked down, so reads fail back to the primary until a later check succeeds.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "taskmanager.replicas.urls")
+public class ReplicaMonitor {
+
+    private static final String HEARTBEAT_QUERY =
+        "SELECT watermark, written_at FROM replica_heartbeat WHERE id = " + ReplicaHeartbeat.ID;
+
+    private final ReplicaHeartbeatRepository heartbeatRepository;
+    private final TaskChangeLog taskChangeLog;
+    private final List<Replica> replicas;
+
+    public ReplicaMonitor(ReplicaHeartbeatRepository heartbeatRepository, TaskChangeLog taskChangeLog,
+                          ReplicaRoutingDataSource replicaDataSource) {
+        this.heartbeatRepository = heartbeatRepository;
+        this.taskChangeLog = taskChangeLog;
+        this.replicas = replicaDataSource.replicas();
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.replicas.check-interval-ms:1000}")
+    public void check() {
+        heartbeatRepository.save(new ReplicaHeartbeat(ReplicaHeartbeat.ID, taskChangeLog.watermark(), LocalDateTime.now()));
+        replicas.forEach(this::check);
+    }
+
+    private void check(Replica replica) {
+        try {
+            List<ReplicaHeartbeat> heartbeats = new JdbcTemplate(replica.dataSource()).query(HEARTBEAT_QUERY,
+                (rs, row) -> new ReplicaHeartbeat(ReplicaHeartbeat.ID, rs.getLong(1), rs.getObject(2, LocalDateTime.class)));
+            if (heartbeats.isEmpty()) {
+                // Reachable but has not yet applied a heartbeat, so its position is unknown.
+                replica.down();
+                return;
+            }
+            if (!replica.isUp()) {
+                log.info("Replica {} is serving reads", replica.name());
+            }
+            replica.caughtUp(heartbeats.get(0).getWatermark(), heartbeats.get(0).getWrittenAt());
+        } catch (DataAccessException e) {
+            if (replica.isUp()) {
+                log.warn("Replica {} failed its heartbeat check; reading from the primary until it recovers",
+                    replica.name(), e);
+            }
+            replica.down();
+        }
+    }
+}
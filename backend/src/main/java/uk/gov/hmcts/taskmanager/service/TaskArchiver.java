@@ -0,0 +1,101 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.Task;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.repository.ArchivedTaskRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves completed and cancelled tasks that have not changed for
+ * {@code taskmanager.archive.min-age} from {@code tasks} to
+ * {@code task_archive}, so the live table and its indexes only hold active
+ * work. Each batch locks its tasks, copies them with one INSERT ... SELECT and
+ * deletes them in a single transaction, so a task is always in exactly one of
+ * the two tables.
+ *
+ * <p>Archiving is not a change to the task: no {@code TaskChangedEvent} is
+ * published, the task stays readable by ID and counted in the task stats, and
+ * it is only dropped from search and the lists of live tasks.
+ */
+@Slf4j
+@Component
+public class TaskArchiver {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskShards taskShards;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int batchSize;
+
+    public TaskArchiver(
+            TaskRepository taskRepository,
+            ArchivedTaskRepository archivedTaskRepository,
+            TaskSearchIndex taskSearchIndex,
+            TaskShards taskShards,
+            PlatformTransactionManager transactionManager,
+            @Value("${taskmanager.archive.enabled:true}") boolean enabled,
+            @Value("${taskmanager.archive.min-age:30d}") Duration minAge,
+            @Value("${taskmanager.archive.batch-size:500}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskShards = taskShards;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Archives every eligible task, one batch per transaction, and returns how
+     * many were moved.
+     */
+    @Scheduled(fixedDelayString = "${taskmanager.archive.interval-ms:3600000}",
+        initialDelayString = "${taskmanager.archive.interval-ms:3600000}")
+    public int archive() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        int archived = 0;
+        for (int shard = 0; shard < taskShards.count(); shard++) {
+            int shardIndex = shard;
+            List<TaskResponse> batch;
+            do {
+                batch = taskShards.write(shardIndex, () -> transaction.execute(status -> archiveBatch(cutoff)));
+                taskSearchIndex.removeAll(batch);
+                archived += batch.size();
+            } while (batch.size() == batchSize);
+        }
+        if (archived > 0) {
+            log.info("Archived {} tasks finished before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private List<TaskResponse> archiveBatch(LocalDateTime cutoff) {
+        List<Task> tasks = taskRepository.findArchivable(TaskStatus.terminalStatuses(), cutoff, Limit.of(batchSize));
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = tasks.stream().map(Task::getId).toList();
+        archivedTaskRepository.copyFromTasks(ids);
+        taskRepository.deleteAllByIdInBatch(ids);
+        return tasks.stream().map(TaskResponse::fromTask).toList();
+    }
+}
@@ -0,0 +1,255 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.taskmanager.dto.BatchItemOutcome;
+import uk.gov.hmcts.taskmanager.dto.BatchItemResult;
+import uk.gov.hmcts.taskmanager.dto.BatchResponse;
+import uk.gov.hmcts.taskmanager.dto.BatchStatusUpdate;
+import uk.gov.hmcts.taskmanager.dto.BatchTaskUpdate;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+import uk.gov.hmcts.taskmanager.exception.BadRequestException;
+import uk.gov.hmcts.taskmanager.model.Task;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies many task writes in a single transaction. Inserts and updates are
+ * flushed through Hibernate JDBC batching, and each item is validated and
+ * reported on separately so one bad entry does not fail the whole request.
+ * When tasks are sharded, a batch of creates goes to a single shard, and
+ * updates and deletes are split by shard with one transaction per shard.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskBatchService {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final Validator validator;
+    private final TaskChangeLog taskChangeLog;
+    private final TaskShards taskShards;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public BatchResponse createTasks(List<TaskRequest> requests) {
+        checkSize(requests);
+        taskShards.routeNew();
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+        List<Integer> indexes = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            Map<String, String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.invalid(i, null, errors));
+                continue;
+            }
+            Task task = new Task();
+            applyRequest(task, request);
+            tasks.add(task);
+            indexes.add(i);
+        }
+
+        List<Task> saved = taskRepository.saveAll(tasks);
+        taskRepository.flush();
+        for (int i = 0; i < saved.size(); i++) {
+            TaskResponse response = TaskResponse.fromTask(saved.get(i));
+            results.add(BatchItemResult.created(indexes.get(i), response));
+            eventPublisher.publishEvent(TaskChangedEvent.created(response));
+        }
+        return BatchResponse.of(results);
+    }
+
+    @Transactional
+    public BatchResponse updateTasks(List<BatchTaskUpdate> updates) {
+        checkSize(updates);
+        return BatchResponse.of(byShard(updates, BatchTaskUpdate::getId, this::applyUpdates));
+    }
+
+    private List<BatchItemResult> applyUpdates(List<BatchTaskUpdate> updates) {
+        List<BatchItemResult> results = new ArrayList<>(updates.size());
+        Map<Long, Task> existing = loadExisting(updates.stream().map(BatchTaskUpdate::getId).toList());
+        Map<Long, TaskResponse> previous = new HashMap<>();
+
+        for (int i = 0; i < updates.size(); i++) {
+            BatchTaskUpdate update = updates.get(i);
+            Map<String, String> errors = validate(update);
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.invalid(i, update == null ? null : update.getId(), errors));
+                continue;
+            }
+            Task task = existing.get(update.getId());
+            if (task == null) {
+                results.add(BatchItemResult.notFound(i, update.getId()));
+                continue;
+            }
+            previous.putIfAbsent(task.getId(), TaskResponse.fromTask(task));
+            applyRequest(task, update.getTask());
+            results.add(BatchItemResult.updated(i, task.getId()));
+        }
+
+        return flushAndSnapshot(results, existing, previous);
+    }
+
+    @Transactional
+    public BatchResponse updateStatuses(List<BatchStatusUpdate> updates) {
+        checkSize(updates);
+        return BatchResponse.of(byShard(updates, BatchStatusUpdate::getId, this::applyStatuses));
+    }
+
+    private List<BatchItemResult> applyStatuses(List<BatchStatusUpdate> updates) {
+        List<BatchItemResult> results = new ArrayList<>(updates.size());
+        Map<Long, Task> existing = loadExisting(updates.stream().map(BatchStatusUpdate::getId).toList());
+        Map<Long, TaskResponse> previous = new HashMap<>();
+
+        for (int i = 0; i < updates.size(); i++) {
+            BatchStatusUpdate update = updates.get(i);
+            Map<String, String> errors = validate(update);
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.invalid(i, update == null ? null : update.getId(), errors));
+                continue;
+            }
+            Task task = existing.get(update.getId());
+            if (task == null) {
+                results.add(BatchItemResult.notFound(i, update.getId()));
+                continue;
+            }
+            previous.putIfAbsent(task.getId(), TaskResponse.fromTask(task));
+            task.setStatus(update.getStatus());
+            task.setChangeSeq(taskChangeLog.next());
+            results.add(BatchItemResult.updated(i, task.getId()));
+        }
+
+        return flushAndSnapshot(results, existing, previous);
+    }
+
+    @Transactional
+    public BatchResponse deleteTasks(List<Long> ids) {
+        checkSize(ids);
+        return BatchResponse.of(byShard(ids, Function.identity(), this::applyDeletes));
+    }
+
+    private List<BatchItemResult> applyDeletes(List<Long> ids) {
+        Map<Long, TaskResponse> existing = taskRepository.findResponsesByIdIn(
+                ids.stream().filter(Objects::nonNull).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        Set<Long> deleted = new HashSet<>();
+
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                results.add(BatchItemResult.invalid(i, null, Map.of("id", "Task ID is required")));
+            } else if (existing.containsKey(id) && deleted.add(id)) {
+                results.add(BatchItemResult.deleted(i, id));
+            } else {
+                results.add(BatchItemResult.notFound(i, id));
+            }
+        }
+
+        if (!deleted.isEmpty()) {
+            taskRepository.deleteAllByIdInBatch(deleted);
+            taskChangeLog.recordDeletes(deleted);
+            deleted.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.deleted(existing.get(id))));
+        }
+        return results;
+    }
+
+    /**
+     * Applies {@code items} in one go when tasks are not sharded. Otherwise
+     * groups them by the shard of their task, applies each group in its own
+     * transaction on that shard and maps result indexes back to {@code items}.
+     * Items without an ID fail validation, so they can go to any shard.
+     */
+    private <T> List<BatchItemResult> byShard(List<T> items, Function<T, Long> idOf,
+                                              Function<List<T>, List<BatchItemResult>> apply) {
+        if (!taskShards.isSharded()) {
+            return apply.apply(items);
+        }
+        Map<Integer, List<Integer>> indexesByShard = new TreeMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            Long id = items.get(i) == null ? null : idOf.apply(items.get(i));
+            indexesByShard.computeIfAbsent(id == null ? 0 : taskShards.shardOf(id), shard -> new ArrayList<>()).add(i);
+        }
+        List<BatchItemResult> results = new ArrayList<>(items.size());
+        indexesByShard.forEach((shard, indexes) -> {
+            List<T> group = indexes.stream().map(items::get).toList();
+            for (BatchItemResult result : taskShards.write(shard, () -> apply.apply(group))) {
+                result.setIndex(indexes.get(result.getIndex()));
+                results.add(result);
+            }
+        });
+        return results;
+    }
+
+    private void checkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BadRequestException("Batch must contain at least one item");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch must not contain more than " + MAX_BATCH_SIZE + " items");
+        }
+    }
+
+    private Map<Long, Task> loadExisting(List<Long> ids) {
+        Set<Long> lookup = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (lookup.isEmpty()) {
+            return Map.of();
+        }
+        return taskRepository.findAllById(lookup).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private List<BatchItemResult> flushAndSnapshot(List<BatchItemResult> results, Map<Long, Task> tasks,
+                                                   Map<Long, TaskResponse> previous) {
+        taskRepository.flush();
+        for (BatchItemResult result : results) {
+            if (result.getOutcome() == BatchItemOutcome.UPDATED) {
+                result.setTask(TaskResponse.fromTask(tasks.get(result.getId())));
+            }
+        }
+        previous.forEach((id, before) ->
+            eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskResponse.fromTask(tasks.get(id)))));
+        return results;
+    }
+
+    private Map<String, String> validate(Object item) {
+        if (item == null) {
+            return Map.of("item", "Item is required");
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        Map<String, String> errors = new TreeMap<>();
+        for (ConstraintViolation<Object> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    private void applyRequest(Task task, TaskRequest request) {
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setStatus(request.getStatus());
+        task.setDueDateTime(request.getDueDateTime());
+        task.setChangeSeq(taskChangeLog.next());
+    }
+}
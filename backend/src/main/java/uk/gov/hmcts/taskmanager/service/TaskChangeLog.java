@@ -0,0 +1,220 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.taskmanager.datasource.ReadConsistency;
+import uk.gov.hmcts.taskmanager.model.ChangeLogLease;
+import uk.gov.hmcts.taskmanager.model.TaskTombstone;
+import uk.gov.hmcts.taskmanager.repository.ChangeLogLeaseRepository;
+import uk.gov.hmcts.taskmanager.repository.SyncClientRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskTombstoneRepository;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Numbers task writes for delta sync and records deletes as tombstones.
+ *
+ * <p>Every written row is stamped with the next value of an in-memory
+ * sequence, seeded at startup from the highest value in the database. A
+ * transaction's first number stays registered as in flight until the
+ * transaction completes, and {@link #watermark()} never passes it, so a reader
+ * that has seen every change up to the watermark cannot later find a change
+ * committed behind it. With sharded storage the sequence is shared by every
+ * shard, and tombstones are written to the shard the task was deleted from.
+ *
+ * <p>Because the sequence and the in-flight set live in this process, only one
+ * instance may write. It holds a lease row on shard 0, renewed every
+ * {@code taskmanager.changes.lease-renew-interval-ms}: an instance that finds
+ * the lease held by another process renewed within
+ * {@code taskmanager.changes.lease-ttl} fails to start, and one that loses its
+ * lease stops issuing sequences, so task writes fail rather than collide.
+ */
+@Slf4j
+@Component
+public class TaskChangeLog {
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final SyncClientRepository syncClientRepository;
+    private final ChangeLogLeaseRepository leaseRepository;
+    private final TransactionTemplate transaction;
+    private final TaskShards taskShards;
+    private final Duration leaseTtl;
+    private final String owner;
+    private final AtomicLong last = new AtomicLong();
+    private final NavigableSet<Long> inFlight = new TreeSet<>();
+    private volatile boolean leaseLost;
+
+    @Autowired
+    public TaskChangeLog(TaskRepository taskRepository, TaskTombstoneRepository tombstoneRepository,
+                         SyncClientRepository syncClientRepository, ChangeLogLeaseRepository leaseRepository,
+                         PlatformTransactionManager transactionManager, TaskShards taskShards,
+                         @Value("${taskmanager.changes.lease-ttl:30s}") Duration leaseTtl) {
+        this(taskRepository, tombstoneRepository, syncClientRepository, leaseRepository, transactionManager,
+            taskShards, leaseTtl, ManagementFactory.getRuntimeMXBean().getName());
+    }
+
+    TaskChangeLog(TaskRepository taskRepository, TaskTombstoneRepository tombstoneRepository,
+                  SyncClientRepository syncClientRepository, ChangeLogLeaseRepository leaseRepository,
+                  PlatformTransactionManager transactionManager, TaskShards taskShards, Duration leaseTtl,
+                  String owner) {
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.syncClientRepository = syncClientRepository;
+        this.leaseRepository = leaseRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.taskShards = taskShards;
+        this.leaseTtl = leaseTtl;
+        this.owner = owner;
+    }
+
+    @PostConstruct
+    void seed() {
+        ChangeLogLease holder = claimLease();
+        if (!owner.equals(holder.getOwner())) {
+            throw new IllegalStateException("Task changes are already being numbered by " + holder.getOwner()
+                + " (lease renewed at " + holder.getRenewedAt() + "); only one instance may write tasks");
+        }
+        long highest = taskShards.gatherInTurn(shard -> Math.max(taskRepository.findMaxChangeSeq(),
+                tombstoneRepository.findMaxChangeSeq()))
+            .stream()
+            .mapToLong(Long::longValue)
+            .max()
+            .orElse(0);
+        last.set(Math.max(highest, syncClientRepository.findMaxWatermark()));
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.changes.lease-renew-interval-ms:10000}")
+    public void renewLease() {
+        if (leaseLost) {
+            return;
+        }
+        try {
+            ChangeLogLease holder = claimLease();
+            if (!owner.equals(holder.getOwner())) {
+                leaseLost = true;
+                log.error("Lost the change log lease to {}; refusing task writes until restarted", holder.getOwner());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not renew the change log lease", e);
+        }
+    }
+
+    @PreDestroy
+    void releaseLease() {
+        if (leaseLost) {
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(status -> leaseRepository.release(ChangeLogLease.ID, owner));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Could not release the change log lease; it expires after {}", leaseTtl, e);
+        }
+    }
+
+    /**
+     * Takes or renews the lease unless another process renewed it within the
+     * TTL, and returns the holder afterwards.
+     */
+    private ChangeLogLease claimLease() {
+        return transaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            ChangeLogLease lease = leaseRepository.findForUpdate(ChangeLogLease.ID)
+                .orElseGet(() -> new ChangeLogLease(ChangeLogLease.ID, owner, now));
+            if (!owner.equals(lease.getOwner()) && lease.getRenewedAt().isAfter(now.minus(leaseTtl))) {
+                return lease;
+            }
+            lease.setOwner(owner);
+            lease.setRenewedAt(now);
+            return leaseRepository.save(lease);
+        });
+    }
+
+    /**
+     * Returns the change sequence for a row written by the current transaction,
+     * and records it against the current {@link ReadConsistency} session so
+     * the writer's next reads see it.
+     */
+    public long next() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Task changes must be written inside a transaction");
+        }
+        if (leaseLost) {
+            throw new IllegalStateException("Another instance holds the change log lease");
+        }
+        long sequence = allocate();
+        ReadConsistency.recordWrite(sequence);
+        return sequence;
+    }
+
+    private long allocate() {
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return last.incrementAndGet();
+        }
+        long first;
+        synchronized (inFlight) {
+            first = last.incrementAndGet();
+            inFlight.add(first);
+        }
+        TransactionSynchronizationManager.bindResource(this, first);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskChangeLog.this);
+                synchronized (inFlight) {
+                    inFlight.remove(first);
+                }
+            }
+        });
+        return first;
+    }
+
+    /**
+     * Highest change sequence handed out so far, whether or not its write has completed.
+     */
+    public long lastIssued() {
+        return last.get();
+    }
+
+    /**
+     * Highest change sequence at or below which every write has completed.
+     */
+    public long watermark() {
+        synchronized (inFlight) {
+            return inFlight.isEmpty() ? last.get() : inFlight.first() - 1;
+        }
+    }
+
+    public void recordDelete(Long taskId) {
+        tombstoneRepository.save(tombstone(taskId, LocalDateTime.now()));
+    }
+
+    public void recordDeletes(Collection<Long> taskIds) {
+        LocalDateTime deletedAt = LocalDateTime.now();
+        List<TaskTombstone> tombstones = taskIds.stream().map(id -> tombstone(id, deletedAt)).toList();
+        tombstoneRepository.saveAll(tombstones);
+    }
+
+    private TaskTombstone tombstone(Long taskId, LocalDateTime deletedAt) {
+        return new TaskTombstone(null, taskId, next(), deletedAt);
+    }
+}
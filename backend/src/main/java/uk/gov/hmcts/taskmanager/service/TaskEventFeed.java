@@ -0,0 +1,306 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.taskmanager.dto.TaskFeedEvent;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-Sent Events feed of committed task changes.
+ *
+ * <p>Changes are appended once to a shared ring of the last
+ * {@code taskmanager.events.buffer-size} events; each subscriber only holds a
+ * cursor into it, so an idle subscriber costs an open connection and nothing
+ * else. A small dispatcher pool writes each subscriber's backlog, one
+ * subscriber at a time, so a slow client never blocks the committing thread.
+ * The blocking socket writes themselves run on a separate sender pool and the
+ * dispatcher waits at most {@code taskmanager.events.send-timeout} for each
+ * batch, so a client that stops reading is dropped rather than holding a
+ * dispatcher thread. A subscriber the ring has overtaken gets a
+ * {@code resync} event and continues from the latest change; one whose
+ * connection fails or is too slow is dropped. Event IDs carry a per-process epoch, so {@code Last-Event-ID}
+ * replays the missed changes after a reconnect, or resyncs if they are gone
+ * or the server has restarted.
+ */
+@Slf4j
+@Component
+public class TaskEventFeed {
+
+    private static final int SEND_BATCH_SIZE = 64;
+    private static final TaskFeedEvent RESYNC = new TaskFeedEvent(TaskFeedEvent.RESYNC, null, null);
+
+    private final EventRing<TaskFeedEvent> ring;
+    private final Duration timeout;
+    private final Duration reconnectDelay;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Duration sendTimeout;
+    private final ExecutorService dispatcher;
+    private final ExecutorService sender;
+
+    public TaskEventFeed(
+            @Value("${taskmanager.events.buffer-size:1024}") int bufferSize,
+            @Value("${taskmanager.events.timeout:30m}") Duration timeout,
+            @Value("${taskmanager.events.reconnect-delay:3s}") Duration reconnectDelay,
+            @Value("${taskmanager.events.dispatch-threads:2}") int dispatchThreads,
+            @Value("${taskmanager.events.send-timeout:5s}") Duration sendTimeout) {
+        this.ring = new EventRing<>(bufferSize);
+        this.timeout = timeout;
+        this.reconnectDelay = reconnectDelay;
+        this.sendTimeout = sendTimeout;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-events-");
+        threadFactory.setDaemon(true);
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, threadFactory);
+        // Unbounded, but a thread is only held past send-timeout by a dropped client until its write fails.
+        CustomizableThreadFactory senderFactory = new CustomizableThreadFactory("task-events-send-");
+        senderFactory.setDaemon(true);
+        this.sender = Executors.newCachedThreadPool(senderFactory);
+    }
+
+    /**
+     * Opens a subscription that receives every change committed from now on,
+     * preceded by any changes after {@code lastEventId} if one is given.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(timeout.toMillis()), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        try {
+            // Opens the stream straight away; otherwise the response is not committed until the first event.
+            emitter.send(SseEmitter.event().reconnectTime(reconnectDelay.toMillis()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long head = head();
+        Subscriber subscriber = new Subscriber(emitter, lastEventId == null ? head : sequenceOf(lastEventId));
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> close(subscriber));
+        subscribers.add(subscriber);
+        if (subscriber.cursor != head) {
+            schedule(subscriber);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskFeedEvent message = new TaskFeedEvent(typeOf(event), event.taskId(), event.task());
+        synchronized (ring) {
+            ring.append(message);
+        }
+        subscribers.forEach(this::schedule);
+    }
+
+    /** Keeps idle connections open through proxies that time out silent responses. */
+    @Scheduled(fixedRateString = "${taskmanager.events.heartbeat-ms:30000}",
+        initialDelayString = "${taskmanager.events.heartbeat-ms:30000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            execute(() -> {
+                try {
+                    write(() -> subscriber.emitter.send(SseEmitter.event().comment("")));
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscriber);
+                }
+            });
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        sender.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.closed && subscriber.scheduled.compareAndSet(false, true)) {
+            execute(() -> drain(subscriber));
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            dispatcher.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("Task event dispatcher is shut down");
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed) {
+                long head;
+                List<TaskFeedEvent> batch = null;
+                synchronized (ring) {
+                    head = ring.head();
+                    if (ring.canResumeFrom(subscriber.cursor)) {
+                        batch = ring.after(subscriber.cursor, SEND_BATCH_SIZE);
+                    }
+                }
+                if (batch == null) {
+                    long resumeFrom = head;
+                    write(() -> {
+                        send(subscriber, resumeFrom, RESYNC);
+                        subscriber.cursor = resumeFrom;
+                    });
+                } else if (batch.isEmpty()) {
+                    break;
+                } else {
+                    List<TaskFeedEvent> events = batch;
+                    write(() -> {
+                        for (TaskFeedEvent event : events) {
+                            send(subscriber, subscriber.cursor + 1, event);
+                            subscriber.cursor++;
+                        }
+                    });
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber);
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        // A change appended after the last read but before the flag was cleared.
+        if (subscriber.cursor != head()) {
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Runs {@code write} on the sender pool and waits up to the send timeout
+     * for it. A write that takes longer is reported as failed and left to
+     * finish or fail on its own.
+     */
+    private void write(Write write) throws IOException {
+        Future<?> written = sender.submit(() -> {
+            write.run();
+            return null;
+        });
+        try {
+            written.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException("Subscriber did not accept events within " + sendTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    private void send(Subscriber subscriber, long sequence, TaskFeedEvent event) throws IOException {
+        subscriber.emitter.send(SseEmitter.event()
+            .id(epoch + "-" + sequence)
+            .name(event.getType())
+            .data(event, MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Completes the emitter on the sender pool: it waits for any write still
+     * in progress, which for a stalled client is until the socket times out.
+     */
+    private void drop(Subscriber subscriber) {
+        close(subscriber);
+        try {
+            sender.execute(subscriber.emitter::complete);
+        } catch (RejectedExecutionException e) {
+            log.debug("Task event sender is shut down");
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+    }
+
+    private long head() {
+        synchronized (ring) {
+            return ring.head();
+        }
+    }
+
+    /** Sequence encoded in an event ID from this process, or -1 to force a resync. */
+    private long sequenceOf(String eventId) {
+        String prefix = epoch + "-";
+        if (eventId.startsWith(prefix)) {
+            try {
+                return Long.parseLong(eventId.substring(prefix.length()));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static String typeOf(TaskChangedEvent event) {
+        return switch (event.type()) {
+            case CREATED -> TaskFeedEvent.CREATED;
+            case DELETED -> TaskFeedEvent.DELETED;
+            case UPDATED -> isStatusChange(event.previous(), event.task()) ? TaskFeedEvent.STATUS : TaskFeedEvent.UPDATED;
+        };
+    }
+
+    private static boolean isStatusChange(TaskResponse previous, TaskResponse task) {
+        return previous.getStatus() != task.getStatus()
+            && Objects.equals(previous.getTitle(), task.getTitle())
+            && Objects.equals(previous.getDescription(), task.getDescription())
+            && Objects.equals(previous.getDueDateTime(), task.getDueDateTime());
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        void run() throws IOException;
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long cursor;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.Task;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    static final int FLUSH_INTERVAL = 1000;
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TaskShards taskShards;
+
+    /**
+     * Writes every task to {@code out} as newline-delimited JSON. Rows are
+     * serialized as they come off the cursor and detached straight away, so
+     * memory use does not depend on the size of the table. The first row is
+     * flushed immediately so clients see data without waiting for a full batch.
+     * When tasks are sharded the shards are exported one after another, each
+     * in ID order.
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TaskResponse.class);
+        long[] count = {0};
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            for (int shard = 0; shard < taskShards.count(); shard++) {
+                taskShards.read(shard, () -> {
+                    try (Stream<Task> tasks = taskRepository.streamAll()) {
+                        Iterator<Task> iterator = tasks.iterator();
+                        while (iterator.hasNext()) {
+                            Task task = iterator.next();
+                            writer.writeValue(generator, TaskResponse.fromTask(task));
+                            generator.writeRaw('\n');
+                            entityManager.detach(task);
+
+                            count[0]++;
+                            if (count[0] == 1 || count[0] % FLUSH_INTERVAL == 0) {
+                                generator.flush();
+                            }
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return null;
+                });
+            }
+            generator.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count[0];
+    }
+}
@@ -0,0 +1,122 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.taskmanager.datasource.ReadConsistency;
+import uk.gov.hmcts.taskmanager.event.TaskChangeType;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+import uk.gov.hmcts.taskmanager.repository.ArchivedTaskRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+
+import java.util.stream.Stream;
+
+/**
+ * In-memory set of the IDs of live and archived tasks that lets lookups of
+ * IDs that were never issued, or have been deleted, fail without a database
+ * round trip.
+ *
+ * <p>Task IDs come from a sequence, so the set is an {@link IdBitmap} over
+ * {@code [0, taskmanager.id-filter.max-id)}: one bit per ID, 8 KB per 65,536
+ * IDs in use. It is filled at startup and an ID is added as soon as its insert
+ * is issued, before commit, but removed only once its delete commits. The
+ * filter can therefore report a rolled-back or just-deleted ID as possibly
+ * present, which costs a normal lookup, but never reports a committed task as
+ * absent. The startup scan reads {@code tasks} before {@code task_archive}, so
+ * a task archived while it runs is seen in one or the other. Until the scan
+ * finishes, and for IDs beyond {@code max-id}, every ID is possibly present.
+ *
+ * <p>Only creates made by this process are seen, so the guarantee holds only
+ * while a single instance writes to the database: a task created by another
+ * instance would be reported absent. The filter is therefore off unless
+ * {@code taskmanager.id-filter.enabled} is set.
+ */
+@Slf4j
+@Component
+public class TaskIdFilter {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TaskShards taskShards;
+    private final boolean enabled;
+    private final IdBitmap ids;
+    private volatile boolean ready;
+
+    public TaskIdFilter(
+            TaskRepository taskRepository,
+            ArchivedTaskRepository archivedTaskRepository,
+            PlatformTransactionManager transactionManager,
+            TaskShards taskShards,
+            @Value("${taskmanager.id-filter.enabled:false}") boolean enabled,
+            @Value("${taskmanager.id-filter.max-id:67108864}") long maxId) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.taskShards = taskShards;
+        this.enabled = enabled;
+        this.ids = new IdBitmap(maxId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        taskShards.forEachShard(() -> ReadConsistency.fromPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Long> taskIds = taskRepository.streamIds()) {
+                taskIds.forEach(this::add);
+            }
+            try (Stream<Long> archivedIds = archivedTaskRepository.streamIds()) {
+                archivedIds.forEach(this::add);
+            }
+        })));
+        ready = true;
+        log.info("Loaded {} task IDs into the lookup filter ({} KB) in {} ms",
+            ids.size(), ids.allocatedBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /** Runs inside the writing transaction so a new ID is visible here before its row is. */
+    @EventListener
+    public void onTaskWritten(TaskChangedEvent event) {
+        if (event.type() == TaskChangeType.CREATED) {
+            add(event.taskId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangeType.DELETED && ids.covers(event.taskId())) {
+            ids.remove(event.taskId());
+        }
+    }
+
+    /**
+     * Returns {@code false} only if no task with this ID exists; {@code true}
+     * means the caller has to look.
+     */
+    public boolean mightExist(Long id) {
+        if (!enabled || !ready || id == null) {
+            return true;
+        }
+        return ids.contains(id) || id > 0 && !ids.covers(id);
+    }
+
+    /** Marks the startup scan as done without running it, for tests. */
+    void markReady() {
+        ready = true;
+    }
+
+    private void add(long id) {
+        if (ids.covers(id)) {
+            ids.add(id);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.taskmanager.dto.CacheStatsResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * In-process read-through cache of task snapshots, bounded by size and age.
+ * Entries are private copies and every hit returns a fresh copy, so callers
+ * can never mutate what is cached. Committed writes refresh or evict entries;
+ * after-commit events of concurrent writes can arrive in either order, so an
+ * entry is only replaced by a newer version and is evicted otherwise.
+ */
+@Component
+public class TaskResponseCache {
+
+    private final boolean enabled;
+    private final Cache<Long, TaskResponse> cache;
+
+    public TaskResponseCache(
+            @Value("${taskmanager.cache.enabled:true}") boolean enabled,
+            @Value("${taskmanager.cache.maximum-size:10000}") long maximumSize,
+            @Value("${taskmanager.cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+    }
+
+    public TaskResponse get(Long id, Function<Long, TaskResponse> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        return copyOf(cache.get(id, key -> copyOf(loader.apply(key))));
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        switch (event.type()) {
+            case UPDATED -> cache.asMap().computeIfPresent(event.taskId(),
+                (id, cached) -> isNewer(event.task(), cached) ? copyOf(event.task()) : null);
+            case DELETED -> cache.invalidate(event.taskId());
+            default -> {
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsResponse(
+            enabled,
+            cache.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.evictionCount()
+        );
+    }
+
+    private static boolean isNewer(TaskResponse task, TaskResponse cached) {
+        return task.getVersion() != null && cached.getVersion() != null && task.getVersion() > cached.getVersion();
+    }
+
+    private static TaskResponse copyOf(TaskResponse task) {
+        return new TaskResponse(
+            task.getId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus(),
+            task.getDueDateTime(),
+            task.getCreatedAt(),
+            task.getUpdatedAt(),
+            task.getVersion()
+        );
+    }
+}
@@ -0,0 +1,107 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.taskmanager.datasource.ReadConsistency;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskText;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Full-text index of task titles and descriptions, built once at startup and
+ * kept current from committed {@link TaskChangedEvent}s. A task written while
+ * the index is being built may briefly match on stale text; callers load the
+ * matching tasks from the database, so deleted tasks never surface.
+ */
+@Slf4j
+@Component
+public class TaskSearchIndex {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TaskShards taskShards;
+    private final InvertedIndex index = new InvertedIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TaskSearchIndex(TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                           TaskShards taskShards) {
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.taskShards = taskShards;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.nanoTime();
+        taskShards.forEachShard(() -> ReadConsistency.fromPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TaskText> tasks = taskRepository.streamText()) {
+                tasks.forEach(task -> write(() -> index.add(task.getId(), task.getTitle(), task.getDescription())));
+            }
+        })));
+        log.info("Indexed {} tasks for search in {} ms", documentCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskResponse previous = event.previous();
+        TaskResponse task = event.task();
+        write(() -> {
+            if (previous == null) {
+                index.add(task.getId(), task.getTitle(), task.getDescription());
+            } else if (task == null) {
+                index.remove(previous.getId(), previous.getTitle(), previous.getDescription());
+            } else {
+                index.update(task.getId(), previous.getTitle(), previous.getDescription(),
+                    task.getTitle(), task.getDescription());
+            }
+        });
+    }
+
+    /** Drops tasks that have left the live table without being deleted, such as archived ones. */
+    public void removeAll(List<TaskResponse> tasks) {
+        write(() -> tasks.forEach(task -> index.remove(task.getId(), task.getTitle(), task.getDescription())));
+    }
+
+    /**
+     * Returns the IDs of up to {@code limit} tasks containing every word of the
+     * query (the last letters of each word may be omitted), best match first.
+     */
+    public List<Long> search(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return index.documentCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -1,78 +1,301 @@
 package uk.gov.hmcts.taskmanager.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.taskmanager.datasource.ReadConsistency;
+import uk.gov.hmcts.taskmanager.dto.CacheStatsResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskFilter;
+import uk.gov.hmcts.taskmanager.dto.TaskPageResponse;
 import uk.gov.hmcts.taskmanager.dto.TaskRequest;
 import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskStatsResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+import uk.gov.hmcts.taskmanager.exception.BadRequestException;
+import uk.gov.hmcts.taskmanager.exception.ConflictException;
+import uk.gov.hmcts.taskmanager.exception.PreconditionFailedException;
 import uk.gov.hmcts.taskmanager.exception.ResourceNotFoundException;
 import uk.gov.hmcts.taskmanager.model.Task;
 import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.repository.ArchivedTaskRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskListVersion;
 import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskSpecifications;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "taskmanager.service", description = "TaskService method latency", histogram = true)
 public class TaskService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+    public static final int MAX_SEARCH_LIMIT = 100;
+
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskResponseCache taskResponseCache;
+    private final TaskStatusCounters taskStatusCounters;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskIdFilter taskIdFilter;
+    private final TaskChangeLog taskChangeLog;
+    private final TaskShards taskShards;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TaskResponse createTask(TaskRequest request) {
+        taskShards.routeNew();
         Task task = new Task();
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
         task.setStatus(request.getStatus());
         task.setDueDateTime(request.getDueDateTime());
+        task.setChangeSeq(taskChangeLog.next());
 
         Task savedTask = taskRepository.save(task);
-        return TaskResponse.fromTask(savedTask);
+        TaskResponse response = TaskResponse.fromTask(savedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.created(response));
+        return response;
     }
 
+    @Transactional(readOnly = true)
     public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-        return TaskResponse.fromTask(task);
+        if (!taskIdFilter.mightExist(id)) {
+            throw notFound(id);
+        }
+        taskShards.route(id);
+        // A replica may only fill the shared cache once it has every change issued so far.
+        return taskResponseCache.get(id, key -> ReadConsistency.atLeast(taskChangeLog.lastIssued(), () -> loadTask(key)));
+    }
+
+    public CacheStatsResponse getCacheStats() {
+        return taskResponseCache.stats();
+    }
+
+    public TaskStatsResponse getTaskStats() {
+        return taskStatusCounters.snapshot();
     }
 
+    @Transactional(readOnly = true)
     public List<TaskResponse> getAllTasks() {
-        return taskRepository.findAll()
+        List<List<TaskResponse>> shards = taskShards.gather(shard -> taskRepository.findAllResponses());
+        if (shards.size() == 1) {
+            return shards.get(0);
+        }
+        return shards.stream()
+            .flatMap(List::stream)
+            .sorted(Comparator.comparing(TaskResponse::getId))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns an entity tag that changes whenever any task is created, updated
+     * or deleted, so clients can revalidate the task list without downloading it.
+     */
+    @Transactional(readOnly = true)
+    public String getTaskListVersion() {
+        long count = 0;
+        LocalDateTime lastUpdatedAt = null;
+        long versionSum = 0;
+        for (TaskListVersion version : taskShards.gather(shard -> taskRepository.findListVersion())) {
+            if (version.getCount() == 0) {
+                continue;
+            }
+            count += version.getCount();
+            if (lastUpdatedAt == null || version.getLastUpdatedAt().isAfter(lastUpdatedAt)) {
+                lastUpdatedAt = version.getLastUpdatedAt();
+            }
+            versionSum += version.getVersionSum();
+        }
+        if (count == 0) {
+            return "0";
+        }
+        return count + "-"
+            + lastUpdatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + "-"
+            + versionSum;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageResponse getTaskPage(TaskFilter filter, String cursor, Integer limit) {
+        return page(filter, cursor, limit, taskRepository::findPage, TaskResponse::fromTask);
+    }
+
+    /**
+     * Pages through archived tasks in the same order and with the same filters
+     * and cursors as {@link #getTaskPage}.
+     */
+    @Transactional(readOnly = true)
+    public TaskPageResponse getArchivedTaskPage(TaskFilter filter, String cursor, Integer limit) {
+        return page(filter, cursor, limit, archivedTaskRepository::findPage, TaskResponse::fromArchivedTask);
+    }
+
+    private <T> TaskPageResponse page(TaskFilter filter, String cursor, Integer limit,
+                                      BiFunction<Specification<T>, Integer, List<T>> findPage,
+                                      Function<T, TaskResponse> toResponse) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (filter.getDueFrom() != null && filter.getDueTo() != null
+                && !filter.getDueFrom().isBefore(filter.getDueTo())) {
+            throw new BadRequestException("dueFrom must be before dueTo");
+        }
+
+        Specification<T> spec = Specification.where(TaskSpecifications.<T>statusIn(filter.getStatuses()))
+            .and(TaskSpecifications.dueOnOrAfter(filter.getDueFrom()))
+            .and(TaskSpecifications.dueBefore(filter.getDueTo()));
+        if (filter.isOverdue()) {
+            spec = spec.and(TaskSpecifications.overdue(LocalDateTime.now()));
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            TaskCursor position = TaskCursor.decode(cursor);
+            spec = spec.and(TaskSpecifications.after(position.dueDateTime(), position.id()));
+        }
+
+        Specification<T> pageSpec = spec;
+        List<TaskResponse> rows = TaskShards.merge(
+            taskShards.gather(shard -> findPage.apply(pageSpec, pageSize + 1).stream().map(toResponse).toList()),
+            Comparator.comparing(TaskResponse::getDueDateTime).thenComparing(TaskResponse::getId), pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<TaskResponse> tasks = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+
+        String nextCursor = null;
+        if (hasMore) {
+            TaskResponse last = tasks.get(tasks.size() - 1);
+            nextCursor = new TaskCursor(last.getDueDateTime(), last.getId()).encode();
+        }
+        return new TaskPageResponse(tasks, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskResponse> searchTasks(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        int maxResults = limit == null ? DEFAULT_SEARCH_LIMIT : limit;
+        if (maxResults < 1 || maxResults > MAX_SEARCH_LIMIT) {
+            throw new BadRequestException("Search limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+
+        List<Long> ids = taskSearchIndex.search(query, maxResults);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, List<Long>> idsByShard = ids.stream().collect(Collectors.groupingBy(taskShards::shardOf));
+        Map<Long, TaskResponse> tasks = taskShards.gather(shard -> idsByShard.containsKey(shard)
+                ? taskRepository.findResponsesByIdIn(idsByShard.get(shard))
+                : List.<TaskResponse>of())
             .stream()
-            .map(TaskResponse::fromTask)
+            .flatMap(List::stream)
+            .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        return ids.stream()
+            .map(tasks::get)
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Updates the status of a task in a single statement. If
+     * {@code expectedVersion} is given the update only applies to that version
+     * of the task.
+     */
     @Transactional
-    public TaskResponse updateTaskStatus(Long id, TaskStatus status) {
-        Task task = taskRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    public TaskResponse updateTaskStatus(Long id, TaskStatus status, Long expectedVersion) {
+        if (status == null) {
+            throw new BadRequestException("Status is required");
+        }
+        taskShards.route(id);
+        LocalDateTime updatedAt = LocalDateTime.now();
+        TaskResponse previous = taskRepository.updateStatusReturningPrevious(
+                id, status, updatedAt, taskChangeLog.next(), expectedVersion)
+            .orElseThrow(() -> notFoundOrChanged(id, expectedVersion));
 
-        task.setStatus(status);
-        Task updatedTask = taskRepository.save(task);
-        return TaskResponse.fromTask(updatedTask);
+        TaskResponse response = new TaskResponse(previous.getId(), previous.getTitle(), previous.getDescription(),
+            status, previous.getDueDateTime(), previous.getCreatedAt(), updatedAt, previous.getVersion() + 1);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, response));
+        return response;
     }
 
     @Transactional
-    public TaskResponse updateTask(Long id, TaskRequest request) {
-        Task task = taskRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    public TaskResponse updateTask(Long id, TaskRequest request, Long expectedVersion) {
+        taskShards.route(id);
+        Task task = findTask(id, expectedVersion);
 
+        TaskResponse previous = TaskResponse.fromTask(task);
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
         task.setStatus(request.getStatus());
         task.setDueDateTime(request.getDueDateTime());
+        task.setChangeSeq(taskChangeLog.next());
 
-        Task updatedTask = taskRepository.save(task);
-        return TaskResponse.fromTask(updatedTask);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        TaskResponse response = TaskResponse.fromTask(updatedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, response));
+        return response;
     }
 
     @Transactional
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Task not found with id: " + id);
+        taskShards.route(id);
+        TaskResponse previous = taskRepository.deleteReturningPrevious(id)
+            .orElseThrow(() -> notWritable(id));
+        taskChangeLog.recordDelete(id);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(previous));
+    }
+
+    private Task findTask(Long id, Long expectedVersion) {
+        Task task = taskRepository.findById(id)
+            .orElseThrow(() -> notWritable(id));
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task " + id + " has changed; current version is " + task.getVersion());
+        }
+        return task;
+    }
+
+    /**
+     * Explains a conditional write that matched no row. Only runs on the failure path.
+     */
+    private RuntimeException notFoundOrChanged(Long id, Long expectedVersion) {
+        if (expectedVersion != null && taskRepository.existsById(id)) {
+            return new PreconditionFailedException("Task " + id + " has changed since version " + expectedVersion);
+        }
+        return notWritable(id);
+    }
+
+    /** Reads a live task, or an archived one if the task has been archived. */
+    private TaskResponse loadTask(Long id) {
+        return taskRepository.findById(id)
+            .map(TaskResponse::fromTask)
+            .or(() -> archivedTaskRepository.findResponseById(id))
+            .orElseThrow(() -> notFound(id));
+    }
+
+    /**
+     * Explains a write to a task missing from the live table. Only runs on the
+     * failure path.
+     */
+    private RuntimeException notWritable(Long id) {
+        if (archivedTaskRepository.existsById(id)) {
+            return new ConflictException("Task " + id + " is archived and can no longer be changed");
         }
-        taskRepository.deleteById(id);
+        return notFound(id);
+    }
+
+    private static ResourceNotFoundException notFound(Long id) {
+        return new ResourceNotFoundException("Task not found with id: " + id);
     }
 }
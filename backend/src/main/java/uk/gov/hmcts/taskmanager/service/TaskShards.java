@@ -0,0 +1,183 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.taskmanager.datasource.ShardContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Where tasks live when they are sharded over several databases
+ * ({@code taskmanager.shards.urls}). A task stays on the shard it was created
+ * on, which its ID records as {@code id % count}; new tasks go to the shards in
+ * turn. Work on one task runs in a transaction bound to its shard, and reads
+ * over all tasks run on every shard in parallel and are merged by the caller.
+ *
+ * <p>With a single database every method runs its work directly in the
+ * caller's transaction, so the unsharded code path is unchanged.
+ */
+@Component
+public class TaskShards {
+
+    private final int count;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ExecutorService gatherExecutor;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    @Autowired
+    public TaskShards(
+            PlatformTransactionManager transactionManager,
+            @Value("${taskmanager.shards.urls:}") List<String> urls,
+            @Value("${taskmanager.shards.gather-threads:16}") int gatherThreads) {
+        this(transactionManager, 1 + (int) urls.stream().filter(url -> !url.isBlank()).count(), gatherThreads);
+    }
+
+    TaskShards(PlatformTransactionManager transactionManager, int count, int gatherThreads) {
+        this.count = count;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        if (count > 1) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-shard-");
+            threadFactory.setDaemon(true);
+            this.gatherExecutor = Executors.newFixedThreadPool(gatherThreads, threadFactory);
+        } else {
+            this.gatherExecutor = null;
+        }
+    }
+
+    /** A single, unsharded database. */
+    static TaskShards single() {
+        return new TaskShards(null, 1, 0);
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    public int shardOf(long id) {
+        return (int) Math.floorMod(id, (long) count);
+    }
+
+    /** Binds the current transaction to the shard holding task {@code id}. */
+    public void route(long id) {
+        if (isSharded()) {
+            ShardContext.bindToTransaction(shard(shardOf(id)));
+        }
+    }
+
+    /** Binds the current transaction to the shard that takes the next new tasks. */
+    public void routeNew() {
+        if (isSharded()) {
+            ShardContext.bindToTransaction(shard(Math.floorMod(nextShard.getAndIncrement(), count)));
+        }
+    }
+
+    /**
+     * Runs {@code read} on every shard, each in its own read-only transaction,
+     * and returns the results in shard order.
+     */
+    public <T> List<T> gather(IntFunction<T> read) {
+        if (!isSharded()) {
+            return Collections.singletonList(read.apply(0));
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            int shard = index;
+            futures.add(CompletableFuture.supplyAsync(() -> read(shard, () -> read.apply(shard)), gatherExecutor));
+        }
+        List<T> results = new ArrayList<>(count);
+        try {
+            futures.forEach(future -> results.add(future.join()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Like {@link #gather} but one shard after another on the calling thread,
+     * for use while the application context is starting: a gather thread that
+     * touches a bean still being created would wait for the caller forever.
+     */
+    public <T> List<T> gatherInTurn(IntFunction<T> read) {
+        List<T> results = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            int shard = index;
+            results.add(read(shard, () -> read.apply(shard)));
+        }
+        return results;
+    }
+
+    /** Runs {@code work} in a new read-only transaction on {@code shard}. */
+    public <T> T read(int shard, Supplier<T> work) {
+        if (!isSharded()) {
+            return work.get();
+        }
+        return ShardContext.on(shard(shard), () -> readTransaction.execute(status -> work.get()));
+    }
+
+    /** Runs {@code work} in a new transaction on {@code shard}. */
+    public <T> T write(int shard, Supplier<T> work) {
+        if (!isSharded()) {
+            return work.get();
+        }
+        return ShardContext.on(shard(shard), () -> writeTransaction.execute(status -> work.get()));
+    }
+
+    /** Runs {@code work}, which manages its own transactions, once per shard. */
+    public void forEachShard(Runnable work) {
+        for (int index = 0; index < count; index++) {
+            ShardContext.on(shard(index), () -> {
+                work.run();
+                return null;
+            });
+        }
+    }
+
+    /** Merges per-shard results, each sorted by {@code order}, into the first {@code limit}. */
+    public static <T> List<T> merge(List<List<T>> results, Comparator<? super T> order, int limit) {
+        if (results.size() == 1) {
+            List<T> only = results.get(0);
+            return only.size() <= limit ? only : only.subList(0, limit);
+        }
+        return results.stream().flatMap(List::stream).sorted(order).limit(limit).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (gatherExecutor != null) {
+            gatherExecutor.shutdown();
+        }
+    }
+
+    private ShardContext.Shard shard(int index) {
+        return new ShardContext.Shard(index, count);
+    }
+}
@@ -0,0 +1,123 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.taskmanager.dto.TaskStatsResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskStatusCount;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory task counts per status, kept current from committed
+ * {@link TaskChangedEvent}s so the dashboard never touches the database.
+ * Counts are seeded with one aggregate query at startup and periodically
+ * reconciled against the database to correct drift. Archived tasks are still
+ * counted. The overdue figure comes from the {@link OverdueTracker}.
+ */
+@Component
+public class TaskStatusCounters {
+
+    private final TaskRepository taskRepository;
+    private final OverdueTracker overdueTracker;
+    private final TaskShards taskShards;
+    private final Map<TaskStatus, LongAdder> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<TaskStatus, LongAdder> duringReconcile = new EnumMap<>(TaskStatus.class);
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+    private boolean reconciling;
+    private volatile LocalDateTime reconciledAt;
+
+    public TaskStatusCounters(TaskRepository taskRepository, OverdueTracker overdueTracker, TaskShards taskShards) {
+        this.taskRepository = taskRepository;
+        this.overdueTracker = overdueTracker;
+        this.taskShards = taskShards;
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, new LongAdder());
+            duringReconcile.put(status, new LongAdder());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        reconcileLock.readLock().lock();
+        try {
+            if (event.previous() != null) {
+                byStatus.get(event.previous().getStatus()).decrement();
+                if (reconciling) {
+                    duringReconcile.get(event.previous().getStatus()).decrement();
+                }
+            }
+            if (event.task() != null) {
+                byStatus.get(event.task().getStatus()).increment();
+                if (reconciling) {
+                    duringReconcile.get(event.task().getStatus()).increment();
+                }
+            }
+        } finally {
+            reconcileLock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Replaces the counters with fresh database totals plus the changes
+     * committed while the aggregate query ran, so a busy table is still
+     * reconciled. A write that commits just as the query starts may be counted
+     * twice; the next run corrects it.
+     */
+    @Scheduled(fixedDelayString = "${taskmanager.stats.reconcile-interval-ms:60000}",
+        initialDelayString = "${taskmanager.stats.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        reconcileLock.writeLock().lock();
+        try {
+            duringReconcile.values().forEach(LongAdder::reset);
+            reconciling = true;
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<TaskStatus, Long> totals = new EnumMap<>(TaskStatus.class);
+        List<List<TaskStatusCount>> shards = taskShards.gather(shard -> taskRepository.countAllByStatus());
+        for (List<TaskStatusCount> shard : shards) {
+            for (TaskStatusCount count : shard) {
+                totals.merge(count.getStatus(), count.getTotal(), Long::sum);
+            }
+        }
+
+        reconcileLock.writeLock().lock();
+        try {
+            reconciling = false;
+            byStatus.forEach((status, counter) -> counter.add(
+                totals.getOrDefault(status, 0L) + duringReconcile.get(status).sum() - counter.sum()));
+            reconciledAt = now;
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+    }
+
+    public TaskStatsResponse snapshot() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        long total = 0;
+        for (Map.Entry<TaskStatus, LongAdder> entry : byStatus.entrySet()) {
+            long count = entry.getValue().sum();
+            counts.put(entry.getKey(), count);
+            total += count;
+        }
+        return new TaskStatsResponse(counts, total, overdueTracker.overdueCount(), reconciledAt);
+    }
+}
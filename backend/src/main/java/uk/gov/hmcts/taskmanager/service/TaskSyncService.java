@@ -0,0 +1,190 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.taskmanager.dto.TaskChangesResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.exception.BadRequestException;
+import uk.gov.hmcts.taskmanager.model.SyncClient;
+import uk.gov.hmcts.taskmanager.model.TaskTombstone;
+import uk.gov.hmcts.taskmanager.repository.SyncClientRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskChange;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskTombstoneRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Delta sync for clients that keep a local copy of the tasks.
+ *
+ * <p>Changes are read from {@link TaskChangeLog} sequences by range scans of
+ * the tasks and tombstones change-sequence indexes, merged oldest first.
+ * Clients that pass a {@code clientId} have their watermark recorded, and
+ * tombstones are compacted once every client seen within
+ * {@code taskmanager.changes.client-ttl} has passed them. A watermark older
+ * than the compacted tombstones can no longer be synced from, so the client
+ * is told to reset and is sent every task instead. With sharded storage,
+ * changes and tombstones are read from every shard and merged, while client
+ * watermarks are kept on shard 0.
+ */
+@Slf4j
+@Service
+public class TaskSyncService {
+
+    public static final int DEFAULT_CHANGES_LIMIT = 200;
+    public static final int MAX_CHANGES_LIMIT = 1000;
+    public static final int MAX_CLIENT_ID_LENGTH = 100;
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final SyncClientRepository syncClientRepository;
+    private final TaskChangeLog taskChangeLog;
+    private final TaskShards taskShards;
+    private final Duration clientTtl;
+    private volatile long compactedThrough;
+
+    public TaskSyncService(TaskRepository taskRepository, TaskTombstoneRepository tombstoneRepository,
+                           SyncClientRepository syncClientRepository, TaskChangeLog taskChangeLog,
+                           TaskShards taskShards,
+                           @Value("${taskmanager.changes.client-ttl:30d}") Duration clientTtl) {
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.syncClientRepository = syncClientRepository;
+        this.taskChangeLog = taskChangeLog;
+        this.taskShards = taskShards;
+        this.clientTtl = clientTtl;
+    }
+
+    /**
+     * Estimates how far tombstones were compacted before this process started.
+     * Compaction only ever removes tombstones below every remaining client's
+     * watermark and below the oldest remaining tombstone, so the smallest of
+     * those is a safe upper bound.
+     */
+    @PostConstruct
+    void seed() {
+        long bound = taskChangeLog.watermark();
+        for (Long oldestTombstone : taskShards.gatherInTurn(shard -> tombstoneRepository.findMinChangeSeq())) {
+            if (oldestTombstone != null) {
+                bound = Math.min(bound, oldestTombstone - 1);
+            }
+        }
+        Long oldestClient = syncClientRepository.findMinWatermark();
+        if (oldestClient != null) {
+            bound = Math.min(bound, oldestClient);
+        }
+        compactedThrough = bound;
+    }
+
+    @Transactional
+    public TaskChangesResponse getChanges(String since, String clientId, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_CHANGES_LIMIT : limit;
+        if (pageSize < 1 || pageSize > MAX_CHANGES_LIMIT) {
+            throw new BadRequestException("Change limit must be between 1 and " + MAX_CHANGES_LIMIT);
+        }
+        if (clientId != null && (clientId.isBlank() || clientId.length() > MAX_CLIENT_ID_LENGTH)) {
+            throw new BadRequestException("clientId must be 1 to " + MAX_CLIENT_ID_LENGTH + " characters");
+        }
+
+        boolean hasToken = since != null && !since.isBlank();
+        long after = hasToken ? ChangeToken.decode(since).sequence() : 0;
+        long upTo = taskChangeLog.watermark();
+        if (clientId != null) {
+            acknowledge(clientId, after);
+        }
+
+        // A token beyond the watermark was issued against a database that has since been replaced.
+        if (after <= upTo && after >= compactedThrough) {
+            TaskChangesResponse response = changesAfter(after, upTo, pageSize, false);
+            // Compaction raises compactedThrough before deleting, so checking again after the
+            // read catches tombstones removed while it ran.
+            if (after >= compactedThrough) {
+                return response;
+            }
+        }
+        return changesAfter(0, upTo, pageSize, hasToken);
+    }
+
+    /**
+     * Drops clients not seen within the TTL, then deletes the tombstones every
+     * remaining client has passed. The newest tombstone is always kept so the
+     * change sequence seeded at startup never falls below a watermark already
+     * handed out.
+     */
+    @Scheduled(fixedDelayString = "${taskmanager.changes.compact-interval-ms:3600000}",
+        initialDelayString = "${taskmanager.changes.compact-interval-ms:3600000}")
+    @Transactional
+    public int compactTombstones() {
+        int expired = syncClientRepository.deleteNotSeenSince(LocalDateTime.now().minus(clientTtl));
+        Long oldestClient = syncClientRepository.findMinWatermark();
+        long floor = oldestClient == null ? taskChangeLog.watermark() : oldestClient;
+        long newest = taskShards.gather(shard -> tombstoneRepository.findMaxChangeSeq()).stream()
+            .mapToLong(Long::longValue)
+            .max()
+            .orElse(0);
+        long upTo = Math.min(floor, newest - 1);
+
+        Long through = taskShards.gather(shard -> tombstoneRepository.findMaxChangeSeqUpTo(upTo)).stream()
+            .filter(Objects::nonNull)
+            .max(Long::compare)
+            .orElse(null);
+        if (through == null) {
+            return 0;
+        }
+        compactedThrough = Math.max(compactedThrough, through);
+        int removed = 0;
+        for (int shard = 0; shard < taskShards.count(); shard++) {
+            removed += taskShards.write(shard, () -> tombstoneRepository.deleteUpTo(through));
+        }
+        log.debug("Compacted {} task tombstones up to change {} and expired {} sync clients", removed, through, expired);
+        return removed;
+    }
+
+    private void acknowledge(String clientId, long watermark) {
+        if (syncClientRepository.acknowledge(clientId, watermark, LocalDateTime.now()) == 0) {
+            syncClientRepository.save(new SyncClient(clientId, watermark, LocalDateTime.now()));
+        }
+    }
+
+    private TaskChangesResponse changesAfter(long after, long upTo, int pageSize, boolean reset) {
+        List<TaskChange> tasks = TaskShards.merge(
+            taskShards.gather(shard -> taskRepository.findChanges(after, upTo, Limit.of(pageSize + 1))),
+            Comparator.comparingLong(TaskChange::changeSeq), pageSize + 1);
+        // A client starting from nothing has no copies of deleted tasks to remove.
+        List<TaskTombstone> tombstones = after == 0
+            ? List.of()
+            : TaskShards.merge(
+                taskShards.gather(shard -> tombstoneRepository.findChanges(after, upTo, Limit.of(pageSize + 1))),
+                Comparator.comparingLong(TaskTombstone::getChangeSeq), pageSize + 1);
+
+        List<TaskResponse> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        long watermark = after;
+        int t = 0;
+        int d = 0;
+        while (changed.size() + deleted.size() < pageSize && (t < tasks.size() || d < tombstones.size())) {
+            if (d == tombstones.size()
+                    || (t < tasks.size() && tasks.get(t).changeSeq() < tombstones.get(d).getChangeSeq())) {
+                TaskChange change = tasks.get(t++);
+                changed.add(change.task());
+                watermark = change.changeSeq();
+            } else {
+                TaskTombstone tombstone = tombstones.get(d++);
+                deleted.add(tombstone.getTaskId());
+                watermark = tombstone.getChangeSeq();
+            }
+        }
+        boolean hasMore = t < tasks.size() || d < tombstones.size();
+        return new TaskChangesResponse(changed, deleted, new ChangeToken(watermark).encode(), hasMore, reset);
+    }
+}
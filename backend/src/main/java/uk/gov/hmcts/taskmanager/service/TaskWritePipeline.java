@@ -0,0 +1,215 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.taskmanager.datasource.ReadConsistency;
+import uk.gov.hmcts.taskmanager.dto.BatchItemOutcome;
+import uk.gov.hmcts.taskmanager.dto.BatchItemResult;
+import uk.gov.hmcts.taskmanager.dto.BatchResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.exception.BadRequestException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for task creation, enabled with
+ * {@code taskmanager.write-pipeline.enabled}.
+ *
+ * <p>Concurrent {@link #create} calls are queued and a single writer thread
+ * inserts them through {@link TaskBatchService} in micro-batches of up to
+ * {@code max-batch-size}, so many creates share one transaction and one
+ * commit. Requests that arrive while a batch is committing form the next one;
+ * {@code max-delay} additionally holds a batch open for stragglers. Each caller
+ * gets back its own task or error, and if a batch fails as a whole its items
+ * are retried one at a time so a single bad item cannot fail the others.
+ * Changes the writer thread records are passed back to each caller's
+ * {@link ReadConsistency} session before its create completes.
+ */
+@Slf4j
+@Component
+public class TaskWritePipeline {
+
+    private final TaskBatchService taskBatchService;
+    private final TaskService taskService;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final BlockingQueue<PendingCreate> queue;
+    private volatile boolean running;
+    private Thread writer;
+
+    public TaskWritePipeline(
+            TaskBatchService taskBatchService,
+            TaskService taskService,
+            @Value("${taskmanager.write-pipeline.enabled:false}") boolean enabled,
+            @Value("${taskmanager.write-pipeline.max-batch-size:256}") int maxBatchSize,
+            @Value("${taskmanager.write-pipeline.max-delay:0ms}") Duration maxDelay,
+            @Value("${taskmanager.write-pipeline.queue-capacity:10000}") int queueCapacity) {
+        if (maxBatchSize < 1 || maxBatchSize > TaskBatchService.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                "Write pipeline batch size must be between 1 and " + TaskBatchService.MAX_BATCH_SIZE);
+        }
+        this.taskBatchService = taskBatchService;
+        this.taskService = taskService;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-writer-");
+        threadFactory.setDaemon(true);
+        running = true;
+        writer = threadFactory.newThread(this::run);
+        writer.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a create and waits for the batch that contains it to commit.
+     * Blocks while the queue is full.
+     */
+    public TaskResponse create(TaskRequest request) {
+        if (!running) {
+            throw new IllegalStateException("Task write pipeline is not running");
+        }
+        PendingCreate pending = new PendingCreate(request, ReadConsistency.current(), new CompletableFuture<>());
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing task", e);
+        }
+        // Lost a race with shutdown, which has already failed everything it found queued.
+        if (!running && queue.remove(pending)) {
+            throw new IllegalStateException("Task write pipeline is not running");
+        }
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        List<PendingCreate> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        fail(abandoned);
+    }
+
+    private void run() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                collect(batch);
+                ReadConsistency.open(0);
+                flush(batch);
+            } catch (InterruptedException e) {
+                fail(batch);
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Task write pipeline failed to complete a batch", e);
+                fail(batch);
+            } finally {
+                ReadConsistency.close();
+            }
+            batch.clear();
+        }
+    }
+
+    /** Adds whatever is already queued, then waits up to max-delay for more. */
+    private void collect(List<PendingCreate> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxDelay.toNanos();
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() == maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingCreate next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingCreate> batch) {
+        BatchResponse response;
+        try {
+            response = taskBatchService.createTasks(batch.stream().map(PendingCreate::request).toList());
+        } catch (RuntimeException e) {
+            log.debug("Group commit of {} tasks failed; retrying them one at a time", batch.size(), e);
+            batch.forEach(this::createAlone);
+            return;
+        }
+        long written = ReadConsistency.current().lastWrite();
+        batch.forEach(pending -> pending.recordWrite(written));
+        for (BatchItemResult result : response.getResults()) {
+            CompletableFuture<TaskResponse> future = batch.get(result.getIndex()).result();
+            if (result.getOutcome() == BatchItemOutcome.CREATED) {
+                future.complete(result.getTask());
+            } else {
+                future.completeExceptionally(
+                    new BadRequestException(result.getMessage() + ": " + result.getValidationErrors()));
+            }
+        }
+    }
+
+    private void createAlone(PendingCreate pending) {
+        try {
+            TaskResponse task = taskService.createTask(pending.request());
+            pending.recordWrite(ReadConsistency.current().lastWrite());
+            pending.result().complete(task);
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    private static void fail(List<PendingCreate> pending) {
+        IllegalStateException stopped = new IllegalStateException("Task write pipeline stopped");
+        pending.forEach(item -> item.result().completeExceptionally(stopped));
+    }
+
+    private record PendingCreate(TaskRequest request, ReadConsistency.Session session,
+                                 CompletableFuture<TaskResponse> result) {
+
+        void recordWrite(long position) {
+            if (session != null) {
+                session.recordWrite(position);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package uk.gov.hmcts.taskmanager.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+import uk.gov.hmcts.taskmanager.service.TaskBatchService;
+import uk.gov.hmcts.taskmanager.service.TaskService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares insert throughput of the per-item path against the batch endpoint.
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=BatchWriteBenchmarkTest}.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.root=WARN"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BatchWriteBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP_ROWS = 2_000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void compareInsertThroughput() {
+        List<TaskRequest> requests = requests(ROWS);
+
+        perItem(requests.subList(0, WARMUP_ROWS));
+        batched(requests.subList(0, WARMUP_ROWS));
+        taskRepository.deleteAllInBatch();
+
+        long perItemNanos = perItem(requests);
+        long batchedNanos = batched(requests);
+
+        assertEquals(ROWS * 2L, taskRepository.count());
+        System.out.printf("per-item: %,.0f rows/s%n", rowsPerSecond(perItemNanos));
+        System.out.printf("batched:  %,.0f rows/s%n", rowsPerSecond(batchedNanos));
+    }
+
+    private long perItem(List<TaskRequest> requests) {
+        long start = System.nanoTime();
+        requests.forEach(taskService::createTask);
+        return System.nanoTime() - start;
+    }
+
+    private long batched(List<TaskRequest> requests) {
+        long start = System.nanoTime();
+        for (int from = 0; from < requests.size(); from += TaskBatchService.MAX_BATCH_SIZE) {
+            int to = Math.min(from + TaskBatchService.MAX_BATCH_SIZE, requests.size());
+            taskBatchService.createTasks(requests.subList(from, to));
+        }
+        return System.nanoTime() - start;
+    }
+
+    private double rowsPerSecond(long nanos) {
+        return ROWS / (nanos / 1_000_000_000.0);
+    }
+
+    private List<TaskRequest> requests(int count) {
+        LocalDateTime due = LocalDateTime.of(2026, 2, 1, 10, 0);
+        List<TaskRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(new TaskRequest("Imported task " + i, "Case reference " + i, TaskStatus.TODO, due.plusMinutes(i)));
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,87 @@
+package uk.gov.hmcts.taskmanager.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+import uk.gov.hmcts.taskmanager.service.TaskService;
+import uk.gov.hmcts.taskmanager.service.TaskWritePipeline;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Compares create throughput of one transaction per task against the group
+ * commit write pipeline at 1, 16 and 256 concurrent writers. The database is
+ * an H2 file so each commit writes to disk, as a server database would.
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=GroupCommitBenchmarkTest}.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.root=WARN",
+    "spring.datasource.url=jdbc:h2:file:./target/group-commit-benchmark;DB_CLOSE_ON_EXIT=FALSE",
+    "taskmanager.write-pipeline.enabled=true"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class GroupCommitBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP_ROWS = 2_000;
+    private static final int[] WRITERS = {1, 16, 256};
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskWritePipeline taskWritePipeline;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void compareCreateThroughput() throws Exception {
+        run(16, WARMUP_ROWS, taskService::createTask);
+        run(16, WARMUP_ROWS, taskWritePipeline::create);
+        taskRepository.deleteAllInBatch();
+
+        System.out.printf("%-8s %14s %14s%n", "writers", "per-commit", "group-commit");
+        for (int writers : WRITERS) {
+            double direct = run(writers, ROWS, taskService::createTask);
+            double grouped = run(writers, ROWS, taskWritePipeline::create);
+            taskRepository.deleteAllInBatch();
+            System.out.printf("%-8d %,10.0f r/s %,10.0f r/s%n", writers, direct, grouped);
+        }
+    }
+
+    private double run(int writers, int rows, Consumer<TaskRequest> create) throws Exception {
+        LocalDateTime due = LocalDateTime.of(2026, 2, 1, 10, 0);
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < rows; i = next.getAndIncrement()) {
+                        create.accept(new TaskRequest("Task " + i, null, TaskStatus.TODO, due.plusMinutes(i)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return rows / ((System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
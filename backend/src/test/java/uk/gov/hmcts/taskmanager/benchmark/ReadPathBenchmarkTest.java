@@ -0,0 +1,113 @@
+package uk.gov.hmcts.taskmanager.benchmark;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+import uk.gov.hmcts.taskmanager.service.TaskBatchService;
+import uk.gov.hmcts.taskmanager.service.TaskService;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Compares the original read path (findById/findAll + TaskResponse.fromTask in a
+ * read-write transaction) with TaskService's read-only transactions and list
+ * projection, reporting bytes allocated and p99 latency per request.
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=ReadPathBenchmarkTest}.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.root=WARN",
+    "taskmanager.cache.enabled=false"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReadPathBenchmarkTest {
+
+    private static final int TASKS = 1000;
+    private static final int SINGLE_ITERATIONS = 20_000;
+    private static final int LIST_ITERATIONS = 200;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readWrite;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        readWrite = new TransactionTemplate(transactionManager);
+        taskRepository.deleteAllInBatch();
+        LocalDateTime due = LocalDateTime.of(2026, 2, 1, 10, 0);
+        List<TaskRequest> requests = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            requests.add(new TaskRequest("Task " + i, "Description for case " + i, TaskStatus.TODO, due.plusHours(i)));
+        }
+        taskBatchService.createTasks(requests);
+        ids = taskRepository.findAll().stream().map(task -> task.getId()).toList();
+    }
+
+    @Test
+    void compareEntityAndProjectionReadPaths() {
+        int[] cursor = {0};
+        Supplier<Object> entitySingle = () -> readWrite.execute(status ->
+            TaskResponse.fromTask(taskRepository.findById(nextId(cursor)).orElseThrow()));
+        Supplier<Object> readOnlySingle = () -> taskService.getTaskById(nextId(cursor));
+        Supplier<Object> entityList = () -> readWrite.execute(status ->
+            taskRepository.findAll().stream().map(TaskResponse::fromTask).toList());
+        Supplier<Object> projectionList = () -> taskService.getAllTasks();
+
+        measure("getTaskById (entity)", entitySingle, SINGLE_ITERATIONS);
+        measure("getTaskById (read-only)", readOnlySingle, SINGLE_ITERATIONS);
+        measure("getAllTasks (entity)", entityList, LIST_ITERATIONS);
+        measure("getAllTasks (projection)", projectionList, LIST_ITERATIONS);
+    }
+
+    private Long nextId(int[] cursor) {
+        cursor[0] = (cursor[0] + 1) % ids.size();
+        return ids.get(cursor[0]);
+    }
+
+    private void measure(String name, Supplier<Object> operation, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            operation.get();
+        }
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long[] latencies = new long[iterations];
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            operation.get();
+            latencies[i] = System.nanoTime() - start;
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Arrays.sort(latencies);
+        long p99 = latencies[(int) (iterations * 0.99) - 1];
+        System.out.printf("%-26s %,12d bytes/op   p99 %,10.1f us%n",
+            name, allocated / iterations, p99 / 1000.0);
+    }
+}
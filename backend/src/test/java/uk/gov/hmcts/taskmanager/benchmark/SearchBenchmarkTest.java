@@ -0,0 +1,84 @@
+package uk.gov.hmcts.taskmanager.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import uk.gov.hmcts.taskmanager.service.InvertedIndex;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Measures search latency over 1M synthetic tasks held in the in-process
+ * inverted index behind GET /api/tasks/search, for rare, common, prefix and
+ * multi-word queries, plus build time and retained heap.
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=SearchBenchmarkTest}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SearchBenchmarkTest {
+
+    private static final int TASKS = 1_000_000;
+    private static final int ITERATIONS = 2_000;
+    private static final String[] ACTIONS = {
+        "Review", "Prepare", "Issue", "Serve", "Archive", "Translate", "Check", "Update"
+    };
+    private static final String[] SUBJECTS = {
+        "hearing bundle", "witness statement", "court order", "appeal notice", "listing request",
+        "interpreter booking", "fee remission", "case file", "evidence schedule", "judgment"
+    };
+    private static final String[] COURTS = {
+        "Birmingham", "Bristol", "Cardiff", "Leeds", "Liverpool", "London", "Manchester", "Newcastle"
+    };
+
+    @Test
+    void measureQueryLatencyAtOneMillionTasks() {
+        Random random = new Random(42);
+        InvertedIndex index = new InvertedIndex();
+
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        for (int i = 1; i <= TASKS; i++) {
+            String title = ACTIONS[random.nextInt(ACTIONS.length)] + " "
+                + SUBJECTS[random.nextInt(SUBJECTS.length)] + " " + caseReference(i);
+            String description = "Case " + caseReference(i) + " at " + COURTS[random.nextInt(COURTS.length)]
+                + " requires the " + SUBJECTS[random.nextInt(SUBJECTS.length)] + " before the next hearing";
+            index.add(i, title, description);
+        }
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+        long heap = usedHeap() - heapBefore;
+        System.out.printf("Indexed %,d tasks, %,d terms, %,d postings in %,d ms, ~%,d MB retained%n",
+            index.documentCount(), index.termCount(), index.postingCount(), buildMillis, heap / (1024 * 1024));
+
+        measure("rare word (case ref)", index, i -> caseReference(1 + random.nextInt(TASKS)));
+        measure("ref prefix", index, i -> caseReference(1 + random.nextInt(TASKS)).substring(0, 6));
+        measure("common word", index, i -> SUBJECTS[i % SUBJECTS.length].split(" ")[0]);
+        measure("two words", index, i -> COURTS[i % COURTS.length] + " " + ACTIONS[i % ACTIONS.length]);
+        measure("short prefix", index, i -> "ma");
+    }
+
+    private void measure(String name, InvertedIndex index, IntFunction<String> queries) {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            index.search(queries.apply(i), 20);
+        }
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            String query = queries.apply(i);
+            long start = System.nanoTime();
+            index.search(query, 20);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-22s p50 %,10.1f us   p99 %,10.1f us%n", name,
+            latencies[ITERATIONS / 2] / 1000.0, latencies[(int) (ITERATIONS * 0.99) - 1] / 1000.0);
+    }
+
+    private static String caseReference(int i) {
+        return "HC" + String.format("%07d", i);
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,91 @@
+package uk.gov.hmcts.taskmanager.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.taskmanager.TaskManagerApplication;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.service.TaskService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares create throughput with tasks on 1, 2 and 4 shards at 64 concurrent
+ * writers. Each shard is its own H2 file database, so commits on different
+ * shards do not wait for each other's disk writes.
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=ShardedWriteBenchmarkTest}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ShardedWriteBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP_ROWS = 2_000;
+    private static final int WRITERS = 64;
+    private static final int[] SHARDS = {1, 2, 4};
+
+    @Test
+    void compareCreateThroughputByShardCount() throws Exception {
+        System.out.printf("%-7s %14s%n", "shards", "creates");
+        for (int shards : SHARDS) {
+            System.out.printf("%-7d %,10.0f r/s%n", shards, run(shards));
+        }
+    }
+
+    private double run(int shards) throws Exception {
+        String shardUrls = IntStream.range(1, shards)
+            .mapToObj(shard -> url(shards, shard))
+            .collect(Collectors.joining(","));
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TaskManagerApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=" + url(shards, 0),
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN");
+        if (!shardUrls.isEmpty()) {
+            builder.properties("taskmanager.shards.urls=" + shardUrls);
+        }
+        try (ConfigurableApplicationContext context = builder.run()) {
+            TaskService taskService = context.getBean(TaskService.class);
+            create(taskService, WARMUP_ROWS);
+            return create(taskService, ROWS);
+        }
+    }
+
+    private double create(TaskService taskService, int rows) throws Exception {
+        LocalDateTime due = LocalDateTime.of(2026, 2, 1, 10, 0);
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < rows; i = next.getAndIncrement()) {
+                        taskService.createTask(new TaskRequest("Task " + i, null, TaskStatus.TODO, due.plusMinutes(i)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return rows / ((System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static String url(int shards, int shard) {
+        return "jdbc:h2:file:./target/shard-benchmark-" + shards + "-" + shard + ";DB_CLOSE_ON_EXIT=FALSE";
+    }
+}
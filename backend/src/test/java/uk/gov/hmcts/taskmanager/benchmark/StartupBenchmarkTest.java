@@ -0,0 +1,177 @@
+package uk.gov.hmcts.taskmanager.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares startup time (as reported by Spring Boot) and time to first
+ * request, from launching the JVM to the first {@code 200} from
+ * {@code GET /api/tasks/page}, for the standard executable jar and the
+ * fast-startup build with and without AOT and CDS. Every run is a fresh JVM
+ * against the same H2 file database; the standard jar creates the schema, as
+ * {@code ddl-auto} does by default, while the fast-startup runs reuse it.
+ * Build both first, then run with
+ * {@code mvn -Pfast-startup package -DskipTests && mvn test -Dbenchmark=true -Dtest=StartupBenchmarkTest}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StartupBenchmarkTest {
+
+    private static final int RUNS = 5;
+    private static final Path TARGET = Path.of("target");
+    private static final Path FAST_STARTUP = TARGET.resolve("fast-startup");
+    private static final Path DATABASE = TARGET.resolve("startup-benchmark").toAbsolutePath();
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final Pattern STARTED = Pattern.compile("Started TaskManagerApplication .*process running for ([0-9.]+)");
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    void compareStartupAndTimeToFirstRequest() throws Exception {
+        Path executableJar = executableJar();
+        Path fastStartupJar = fastStartupJar();
+        assertTrue(Files.exists(FAST_STARTUP.resolve("application.jsa")), "Run mvn -Pfast-startup package first");
+
+        List<Variant> variants = List.of(
+            new Variant("standard jar", TARGET, List.of(),
+                List.of("-jar", executableJar.toAbsolutePath().toString(), "--spring.jpa.hibernate.ddl-auto=create")),
+            new Variant("fast-startup profile", FAST_STARTUP, List.of(),
+                List.of("-jar", fastStartupJar.getFileName().toString(), "--spring.profiles.active=fast-startup")),
+            new Variant("+ AOT", FAST_STARTUP, List.of("-Dspring.aot.enabled=true"),
+                List.of("-jar", fastStartupJar.getFileName().toString(), "--spring.profiles.active=fast-startup")),
+            new Variant("+ AOT + CDS", FAST_STARTUP,
+                List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=application.jsa"),
+                List.of("-jar", fastStartupJar.getFileName().toString(), "--spring.profiles.active=fast-startup")));
+
+        // Creates the schema the fast-startup runs expect and warms the file cache
+        run(variants.get(0));
+        System.out.printf("%-22s %12s %16s%n", "build", "startup", "first request");
+        for (Variant variant : variants) {
+            run(variant);
+            double[] startup = new double[RUNS];
+            double[] firstRequest = new double[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                Result result = run(variant);
+                startup[i] = result.startupSeconds();
+                firstRequest[i] = result.firstRequestSeconds();
+            }
+            System.out.printf("%-22s %10.2f s %14.2f s%n", variant.name(), median(startup), median(firstRequest));
+        }
+    }
+
+    private Result run(Variant variant) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(variant.jvmArgs());
+        command.addAll(variant.args());
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=jdbc:h2:file:" + DATABASE.resolve("taskdb"));
+
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .directory(variant.directory().toFile())
+            .redirectErrorStream(true)
+            .start();
+        CompletableFuture<Double> startup = new CompletableFuture<>();
+        CompletableFuture.runAsync(() -> readStartupSeconds(process, startup));
+        try {
+            URI uri = URI.create("http://localhost:" + port + "/api/tasks/page?limit=1");
+            while (true) {
+                assertTrue(process.isAlive(), variant.name() + " exited during startup");
+                assertTrue(System.nanoTime() - launched < TIMEOUT.toNanos(), variant.name() + " did not start");
+                try {
+                    HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            double firstRequest = (System.nanoTime() - launched) / 1e9;
+            return new Result(startup.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS), firstRequest);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * Completes {@code startup} with the startup time Spring Boot logs, and
+     * keeps reading the process output to the end so it never blocks on a full pipe.
+     */
+    private static void readStartupSeconds(Process process, CompletableFuture<Double> startup) {
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String line = output.readLine(); line != null; line = output.readLine()) {
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    startup.complete(Double.parseDouble(matcher.group(1)));
+                }
+            }
+        } catch (IOException e) {
+            // process destroyed
+        }
+        startup.complete(Double.NaN);
+    }
+
+    private static Path executableJar() throws IOException {
+        try (var jars = Files.list(TARGET)) {
+            return jars.filter(jar -> jar.getFileName().toString().matches("task-manager-.*\\.jar"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Run mvn package first"));
+        }
+    }
+
+    private static Path fastStartupJar() throws IOException {
+        try (var jars = Files.list(FAST_STARTUP)) {
+            return jars.filter(jar -> jar.getFileName().toString().endsWith("-fast-startup.jar"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Run mvn -Pfast-startup package first"));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private record Variant(String name, Path directory, List<String> jvmArgs, List<String> args) {
+    }
+
+    private record Result(double startupSeconds, double firstRequestSeconds) {
+    }
+}
@@ -0,0 +1,172 @@
+package uk.gov.hmcts.taskmanager.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.taskmanager.TaskManagerApplication;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares throughput and p99 latency of the task API served by the Tomcat
+ * worker pool against {@code spring.threads.virtual.enabled=true}, with far
+ * more concurrent clients than worker threads. Every JDBC statement is delayed
+ * to stand in for a networked database, so request threads spend most of their
+ * time blocked as they do in production.
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=VirtualThreadLoadBenchmarkTest}
+ * on a Java 21 JDK.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int CONCURRENCY = 1000;
+    private static final int TASKS = 1000;
+    private static final long STATEMENT_LATENCY_MILLIS = 20;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration RUN = Duration.ofSeconds(20);
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+        System.out.printf("%-9s %,8.0f req/s   p99 %,8.1f ms   errors %d%n", "platform",
+            platform.throughput(), platform.p99Millis(), platform.errors());
+        System.out.printf("%-9s %,8.0f req/s   p99 %,8.1f ms   errors %d%n", "virtual",
+            virtual.throughput(), virtual.p99Millis(), virtual.errors());
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                TaskManagerApplication.class, StatementLatency.class)
+                .properties(
+                    "server.port=0",
+                    "spring.threads.virtual.enabled=" + virtualThreads,
+                    "spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads,
+                    "spring.datasource.hikari.maximum-pool-size=400",
+                    "spring.datasource.hikari.minimum-idle=10",
+                    "spring.datasource.hikari.connection-timeout=30000",
+                    "spring.jpa.show-sql=false",
+                    "taskmanager.cache.enabled=false",
+                    "taskmanager.admission.enabled=false",
+                    "logging.level.root=WARN")
+                .run()) {
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/tasks";
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            seed(client, base);
+            load(client, base, WARMUP);
+            return load(client, base, RUN);
+        }
+    }
+
+    private void seed(HttpClient client, String base) throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < TASKS; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"title\":\"Task ").append(i)
+                .append("\",\"status\":\"TODO\",\"dueDateTime\":\"2030-01-01T10:00:00\"}");
+        }
+        client.send(HttpRequest.newBuilder(URI.create(base + "/batch"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body.append("]").toString()))
+            .build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    /**
+     * Keeps {@link #CONCURRENCY} requests in flight: mostly reads by ID, with
+     * one in ten a page query.
+     */
+    private Result load(HttpClient client, String base, Duration duration) throws InterruptedException {
+        long[] latencies = new long[4_000_000];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        while (System.nanoTime() < end) {
+            inFlight.acquire();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String path = random.nextInt(10) == 0 ? "/page?limit=20" : "/" + (1 + random.nextInt(TASKS));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + path)).GET().build();
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                if (error != null || response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                }
+                int index = completed.getAndIncrement();
+                if (index < latencies.length) {
+                    latencies[index] = System.nanoTime() - sent;
+                }
+                inFlight.release();
+            });
+        }
+        inFlight.acquire(CONCURRENCY);
+        long elapsed = System.nanoTime() - start;
+
+        int count = Math.min(completed.get(), latencies.length);
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Result(count * 1e9 / elapsed, sorted[(int) (count * 0.99)] / 1e6, errors.get());
+    }
+
+    private record Result(double throughput, double p99Millis, long errors) {
+    }
+
+    /**
+     * Delays every statement execution by {@link #STATEMENT_LATENCY_MILLIS}.
+     */
+    @Configuration
+    static class StatementLatency {
+
+        @Bean
+        static BeanPostProcessor statementLatencyPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? delayed(dataSource, DataSource.class) : bean;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T delayed(T target, Class<T> type) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    Thread.sleep(STATEMENT_LATENCY_MILLIS);
+                }
+                try {
+                    Object result = method.invoke(target, args);
+                    if (result instanceof Connection connection) {
+                        return delayed(connection, Connection.class);
+                    }
+                    if (result instanceof Statement statement) {
+                        return delayed(statement, method.getReturnType().isInterface()
+                            ? (Class<Statement>) method.getReturnType() : Statement.class);
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+}
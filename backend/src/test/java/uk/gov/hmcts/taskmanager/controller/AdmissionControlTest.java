@@ -0,0 +1,78 @@
+package uk.gov.hmcts.taskmanager.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.service.AdmissionControl;
+import uk.gov.hmcts.taskmanager.service.AdmissionControl.Permit;
+import uk.gov.hmcts.taskmanager.service.AdmissionControl.RequestClass;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fixes both limits at two requests, one of which bulk requests may use, and
+ * sheds at once rather than queueing.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.show-sql=false",
+    "taskmanager.admission.read-limit=2",
+    "taskmanager.admission.write-limit=2",
+    "taskmanager.admission.min-limit=2",
+    "taskmanager.admission.max-limit=2",
+    "taskmanager.admission.bulk-share=0.5",
+    "taskmanager.admission.queue-timeout=0ms",
+    "taskmanager.admission.retry-after=2s"
+})
+class AdmissionControlTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private AdmissionControl admissionControl;
+
+    @Test
+    void busyReadLimit_ShouldShedBulkReadsButStillServeSingleTaskReads() {
+        TaskResponse task = restTemplate.postForObject("/api/tasks",
+            new TaskRequest("Admitted task", null, TaskStatus.TODO, LocalDateTime.now().plusDays(1)), TaskResponse.class);
+
+        Permit held = admissionControl.admit(RequestClass.READ);
+        try {
+            ResponseEntity<String> shed = restTemplate.getForEntity("/api/tasks", String.class);
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, shed.getStatusCode());
+            assertEquals("2", shed.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            assertTrue(shed.getBody().contains("overloaded"));
+
+            assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api/tasks/" + task.getId(), String.class).getStatusCode());
+            assertEquals(HttpStatus.CREATED, restTemplate.postForEntity("/api/tasks",
+                new TaskRequest("Write while reads are busy", null, TaskStatus.TODO, LocalDateTime.now().plusDays(1)),
+                String.class).getStatusCode());
+        } finally {
+            held.release();
+        }
+
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api/tasks", String.class).getStatusCode());
+    }
+
+    @Test
+    void fullReadLimit_ShouldShedSingleTaskReadsToo() {
+        Permit first = admissionControl.admit(RequestClass.READ);
+        Permit second = admissionControl.admit(RequestClass.READ);
+        try {
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+                restTemplate.getForEntity("/api/tasks/1", String.class).getStatusCode());
+        } finally {
+            first.release();
+            second.release();
+        }
+    }
+}
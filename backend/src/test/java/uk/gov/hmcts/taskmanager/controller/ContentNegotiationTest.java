@@ -0,0 +1,93 @@
+package uk.gov.hmcts.taskmanager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.show-sql=false"
+})
+class ContentNegotiationTest {
+
+    private static final ObjectMapper CBOR = new ObjectMapper(new CBORFactory()).registerModule(new JavaTimeModule());
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void getTaskById_WithCborAccept_ShouldReturnCbor() throws Exception {
+        TaskResponse created = restTemplate.postForObject("/api/tasks",
+            new TaskRequest("Binary task", null, TaskStatus.TODO, LocalDateTime.of(2026, 2, 1, 10, 0)),
+            TaskResponse.class);
+
+        HttpResponse<byte[]> response = get("/api/tasks/" + created.getId(), "application/cbor", null);
+
+        assertEquals(200, response.statusCode());
+        assertEquals("application/cbor", response.headers().firstValue("Content-Type").orElseThrow());
+        TaskResponse decoded = CBOR.readValue(response.body(), TaskResponse.class);
+        assertEquals(created.getId(), decoded.getId());
+        assertEquals(LocalDateTime.of(2026, 2, 1, 10, 0), decoded.getDueDateTime());
+    }
+
+    @Test
+    void getAllTasks_WhenLargeAndGzipAccepted_ShouldCompress() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            restTemplate.postForObject("/api/tasks",
+                new TaskRequest("Compressed task " + i, "Case reference " + i, TaskStatus.TODO,
+                    LocalDateTime.now().plusDays(1)), TaskResponse.class);
+        }
+
+        HttpResponse<byte[]> response = get("/api/tasks", "application/json", "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElseThrow());
+        try (InputStream body = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            assertTrue(new String(body.readAllBytes()).contains("Compressed task 49"));
+        }
+    }
+
+    @Test
+    void getTaskById_WhenSmall_ShouldNotCompress() throws Exception {
+        TaskResponse created = restTemplate.postForObject("/api/tasks",
+            new TaskRequest("Small task", null, TaskStatus.TODO, LocalDateTime.now().plusDays(1)),
+            TaskResponse.class);
+
+        HttpResponse<byte[]> response = get("/api/tasks/" + created.getId(), "application/json", "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Accept", accept);
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.taskmanager.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springdoc.webmvc.api.OpenApiWebMvcResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Schema generation is switched back on because the in-memory database starts empty.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@ActiveProfiles("fast-startup")
+class FastStartupProfileTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Test
+    void applicationBeans_ShouldBeEagerAndFrameworkExtrasLazy() {
+        assertTrue(context.getBeanFactory().containsSingleton("taskArchiver"));
+        assertTrue(context.getBeanFactory().containsSingleton("taskSearchIndex"));
+        assertFalse(context.getBeanFactory().containsSingleton("jdbcTemplate"));
+
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api/tasks", String.class).getStatusCode());
+    }
+
+    @Test
+    void springdoc_ShouldBeDisabled() {
+        assertEquals(0, context.getBeanNamesForType(OpenApiWebMvcResource.class).length);
+    }
+}
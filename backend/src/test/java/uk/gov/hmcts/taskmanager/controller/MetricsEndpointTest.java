@@ -0,0 +1,49 @@
+package uk.gov.hmcts.taskmanager.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.show-sql=false"
+})
+@AutoConfigureObservability
+class MetricsEndpointTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void prometheusEndpointExposesRequestServiceAdmissionHibernateAndPoolMetrics() {
+        TaskRequest request = new TaskRequest("Metrics task", null, TaskStatus.TODO,
+            LocalDateTime.now().plusDays(1));
+        TaskResponse created = restTemplate.postForObject("/api/tasks", request, TaskResponse.class);
+        restTemplate.getForObject("/api/tasks/" + created.getId(), TaskResponse.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String body = response.getBody();
+        assertTrue(body.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(body.contains("uri=\"/api/tasks/{id}\""));
+        assertTrue(body.contains("taskmanager_service_seconds_bucket{"));
+        assertTrue(body.contains("method=\"getTaskById\""));
+        assertTrue(body.contains("taskmanager_admission_requests_total{"));
+        assertTrue(body.contains("class=\"read\",outcome=\"admitted\""));
+        assertTrue(body.contains("taskmanager_admission_limit{"));
+        assertTrue(body.contains("hibernate_statements_total"));
+        assertTrue(body.contains("hikaricp_connections_active"));
+        assertTrue(body.contains("jvm_gc_memory_allocated_bytes_total"));
+    }
+}
@@ -0,0 +1,130 @@
+package uk.gov.hmcts.taskmanager.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.taskmanager.datasource.ReadYourWritesFilter;
+import uk.gov.hmcts.taskmanager.datasource.ReplicaRoutingDataSource;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.service.ReplicaMonitor;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against two in-memory H2 databases standing in for a primary and a
+ * replica. Replication is simulated by copying the primary into the replica.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.show-sql=false",
+    "spring.datasource.url=jdbc:h2:mem:replication-primary",
+    "taskmanager.replicas.urls=jdbc:h2:mem:replication-replica;DB_CLOSE_DELAY=-1",
+    "taskmanager.replicas.check-interval-ms=3600000",
+    "taskmanager.cache.enabled=false"
+})
+class ReadReplicaRoutingTest {
+
+    private static final Path SNAPSHOT = Path.of("target", "replica-snapshot.sql").toAbsolutePath();
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ReplicaMonitor replicaMonitor;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaDataSource;
+
+    @Test
+    void reads_WhenReplicaHasCaughtUp_ShouldBeServedByReplica() {
+        TaskResponse task = create("Written to primary");
+        replicate();
+        replica().update("UPDATE tasks SET title = 'Read from replica' WHERE id = ?", task.getId());
+
+        assertEquals("Read from replica", titleOf(task.getId(), null));
+    }
+
+    @Test
+    void reads_AfterClientWrites_ShouldWaitForReplicaToApplyThem() {
+        replicate();
+        ResponseEntity<TaskResponse> created = restTemplate.postForEntity("/api/tasks", request("Fresh write"), TaskResponse.class);
+        String cookie = created.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+        assertNotNull(cookie);
+        assertTrue(cookie.startsWith(ReadYourWritesFilter.COOKIE + "="));
+        Long id = created.getBody().getId();
+
+        assertNull(titleOf(id, null), "another client reads the lagging replica");
+        assertEquals("Fresh write", titleOf(id, cookie), "the writer reads from the primary");
+
+        replicate();
+        replica().update("UPDATE tasks SET title = 'Fresh write on replica' WHERE id = ?", id);
+        assertEquals("Fresh write on replica", titleOf(id, cookie), "the writer reads the replica once it has caught up");
+    }
+
+    @Test
+    void reads_WhenReplicaFailsHeartbeat_ShouldFailBackToPrimary() {
+        replicate();
+        TaskResponse task = create("Survives replica outage");
+        replica().execute("DROP ALL OBJECTS");
+        replicaMonitor.check();
+
+        assertFalse(replicaDataSource.replicas().get(0).isUp());
+        assertEquals("Survives replica outage", titleOf(task.getId(), null));
+
+        replicate();
+        assertTrue(replicaDataSource.replicas().get(0).isUp());
+    }
+
+    /** Copies the primary, including a fresh heartbeat, into the replica and re-measures its lag. */
+    private void replicate() {
+        replicaMonitor.check();
+        new JdbcTemplate(primaryDataSource).execute("SCRIPT TO '" + SNAPSHOT + "'");
+        replica().execute("DROP ALL OBJECTS");
+        replica().execute("RUNSCRIPT FROM '" + SNAPSHOT + "'");
+        replicaMonitor.check();
+    }
+
+    private JdbcTemplate replica() {
+        return new JdbcTemplate(replicaDataSource.replicas().get(0).dataSource());
+    }
+
+    /** Title of the task in the full task list, or {@code null} if it is not listed. */
+    private String titleOf(Long id, String cookie) {
+        HttpHeaders headers = new HttpHeaders();
+        if (cookie != null) {
+            headers.add(HttpHeaders.COOKIE, cookie.split(";")[0]);
+        }
+        ResponseEntity<TaskResponse[]> response = restTemplate.exchange(
+            "/api/tasks", HttpMethod.GET, new HttpEntity<>(headers), TaskResponse[].class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<TaskResponse> tasks = Arrays.asList(response.getBody());
+        return tasks.stream().filter(task -> task.getId().equals(id)).map(TaskResponse::getTitle).findFirst().orElse(null);
+    }
+
+    private TaskResponse create(String title) {
+        return restTemplate.postForObject("/api/tasks", request(title), TaskResponse.class);
+    }
+
+    private static TaskRequest request(String title) {
+        return new TaskRequest(title, null, TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+    }
+}
@@ -0,0 +1,143 @@
+package uk.gov.hmcts.taskmanager.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import uk.gov.hmcts.taskmanager.dto.BatchResponse;
+import uk.gov.hmcts.taskmanager.dto.BatchStatusUpdate;
+import uk.gov.hmcts.taskmanager.dto.TaskPageResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.service.TaskBatchService;
+import uk.gov.hmcts.taskmanager.service.TaskShards;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against three in-memory H2 databases as shards 0 to 2.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.show-sql=false",
+    "spring.datasource.url=jdbc:h2:mem:shard-0;DB_CLOSE_DELAY=-1",
+    "taskmanager.shards.urls=jdbc:h2:mem:shard-1;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard-2;DB_CLOSE_DELAY=-1",
+    "taskmanager.cache.enabled=false"
+})
+class ShardedTaskStorageTest {
+
+    private static final List<String> SHARD_URLS = List.of(
+        "jdbc:h2:mem:shard-0;DB_CLOSE_DELAY=-1",
+        "jdbc:h2:mem:shard-1;DB_CLOSE_DELAY=-1",
+        "jdbc:h2:mem:shard-2;DB_CLOSE_DELAY=-1");
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TaskShards taskShards;
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Test
+    void createdTasks_ShouldBeSpreadOverShardsAndStoredOnTheShardTheirIdNames() {
+        List<TaskResponse> tasks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            tasks.add(create("Spread " + i, LocalDateTime.now().plusDays(1)));
+        }
+
+        assertEquals(3, taskShards.count());
+        assertEquals(Set.of(0, 1, 2), tasks.stream().map(task -> taskShards.shardOf(task.getId())).collect(Collectors.toSet()));
+        for (TaskResponse task : tasks) {
+            int shard = taskShards.shardOf(task.getId());
+            for (int other = 0; other < SHARD_URLS.size(); other++) {
+                assertEquals(other == shard ? 1 : 0, rowsWithId(other, task.getId()),
+                    "task " + task.getId() + " on shard " + other);
+            }
+            assertEquals(task.getTitle(), restTemplate.getForObject("/api/tasks/" + task.getId(), TaskResponse.class).getTitle());
+        }
+    }
+
+    @Test
+    void writesToExistingTasks_ShouldGoToTheirShard() {
+        TaskResponse task = create("Before update", LocalDateTime.now().plusDays(1));
+
+        restTemplate.put("/api/tasks/" + task.getId(), new TaskRequest("After update", null, TaskStatus.IN_PROGRESS,
+            task.getDueDateTime()));
+        assertEquals("After update", restTemplate.getForObject("/api/tasks/" + task.getId(), TaskResponse.class).getTitle());
+
+        restTemplate.delete("/api/tasks/" + task.getId());
+        assertEquals(HttpStatus.NOT_FOUND,
+            restTemplate.getForEntity("/api/tasks/" + task.getId(), String.class).getStatusCode());
+        assertEquals(0, rowsWithId(taskShards.shardOf(task.getId()), task.getId()));
+    }
+
+    @Test
+    void listsAndPages_ShouldMergeEveryShard() {
+        LocalDateTime base = LocalDateTime.now().plusYears(5);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(create("Paged " + i, base.plusMinutes(i)).getId());
+        }
+
+        List<Long> listed = restTemplate.exchange("/api/tasks", HttpMethod.GET, null,
+                new ParameterizedTypeReference<List<TaskResponse>>() { })
+            .getBody().stream().map(TaskResponse::getId).toList();
+        assertTrue(listed.containsAll(ids));
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            String url = "/api/tasks/page?limit=3&dueFrom=" + base.minusSeconds(1) + (cursor == null ? "" : "&cursor=" + cursor);
+            TaskPageResponse page = restTemplate.getForObject(url, TaskPageResponse.class);
+            page.getTasks().forEach(task -> paged.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(ids, paged);
+    }
+
+    @Test
+    void batchStatusUpdate_ShouldApplyAcrossShards() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(create("Batch " + i, LocalDateTime.now().plusDays(2)).getId());
+        }
+        List<BatchStatusUpdate> updates = new ArrayList<>();
+        ids.forEach(id -> updates.add(new BatchStatusUpdate(id, TaskStatus.COMPLETED)));
+        updates.add(new BatchStatusUpdate(Long.MAX_VALUE - 1, TaskStatus.COMPLETED));
+
+        BatchResponse response = taskBatchService.updateStatuses(updates);
+
+        assertEquals(3, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        for (int i = 0; i < updates.size(); i++) {
+            assertEquals(i, response.getResults().get(i).getIndex());
+            assertEquals(updates.get(i).getId(), response.getResults().get(i).getId());
+        }
+        for (Long id : ids) {
+            assertEquals(TaskStatus.COMPLETED, restTemplate.getForObject("/api/tasks/" + id, TaskResponse.class).getStatus());
+        }
+    }
+
+    private TaskResponse create(String title, LocalDateTime due) {
+        return restTemplate.postForObject("/api/tasks", new TaskRequest(title, null, TaskStatus.TODO, due),
+            TaskResponse.class);
+    }
+
+    private static int rowsWithId(int shard, long id) {
+        JdbcTemplate jdbc = new JdbcTemplate(new DriverManagerDataSource(SHARD_URLS.get(shard), "sa", ""));
+        return jdbc.queryForObject("SELECT COUNT(*) FROM tasks WHERE id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,129 @@
+package uk.gov.hmcts.taskmanager.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.taskmanager.dto.TaskPageResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.repository.ArchivedTaskRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+import uk.gov.hmcts.taskmanager.service.TaskArchiver;
+import uk.gov.hmcts.taskmanager.service.TaskIdFilter;
+import uk.gov.hmcts.taskmanager.service.TaskService;
+import uk.gov.hmcts.taskmanager.service.TaskShards;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.show-sql=false",
+    "taskmanager.archive.min-age=0s"
+})
+class TaskArchiveTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskShards taskShards;
+
+    @Test
+    void archive_ShouldMoveFinishedTasksOutOfTheLiveTableButKeepThemReadable() {
+        LocalDateTime due = LocalDateTime.now().plusYears(3);
+        TaskResponse open = create("Open archivable", due);
+        TaskResponse completed = create("Completed archivable", due.plusMinutes(1));
+        restTemplate.put("/api/tasks/" + completed.getId(),
+            new TaskRequest("Completed archivable", null, TaskStatus.COMPLETED, completed.getDueDateTime()));
+
+        assertTrue(taskArchiver.archive() >= 1);
+
+        List<Long> live = restTemplate.exchange("/api/tasks", HttpMethod.GET, null,
+                new ParameterizedTypeReference<List<TaskResponse>>() { })
+            .getBody().stream().map(TaskResponse::getId).toList();
+        assertTrue(live.contains(open.getId()));
+        assertFalse(live.contains(completed.getId()));
+
+        TaskResponse archived = restTemplate.getForObject("/api/tasks/" + completed.getId(), TaskResponse.class);
+        assertEquals(TaskStatus.COMPLETED, archived.getStatus());
+        assertEquals("Completed archivable", archived.getTitle());
+
+        TaskPageResponse page = restTemplate.getForObject(
+            "/api/tasks/archive?status=COMPLETED&dueFrom=" + due, TaskPageResponse.class);
+        assertEquals(List.of(completed.getId()), page.getTasks().stream().map(TaskResponse::getId).toList());
+        assertNull(page.getNextCursor());
+
+        List<TaskResponse> found = restTemplate.exchange("/api/tasks/search?q=archivable", HttpMethod.GET, null,
+            new ParameterizedTypeReference<List<TaskResponse>>() { }).getBody();
+        assertEquals(List.of(open.getId()), found.stream().map(TaskResponse::getId).toList());
+    }
+
+    @Test
+    void writesToArchivedTasks_ShouldBeRejectedWithConflict() {
+        TaskResponse task = create("Cancelled task", LocalDateTime.now().plusDays(1));
+        TaskRequest cancel = new TaskRequest("Cancelled task", null, TaskStatus.CANCELLED, task.getDueDateTime());
+        restTemplate.put("/api/tasks/" + task.getId(), cancel);
+        taskArchiver.archive();
+
+        assertEquals(HttpStatus.CONFLICT, restTemplate.exchange("/api/tasks/" + task.getId(), HttpMethod.PUT,
+            new HttpEntity<>(cancel), String.class).getStatusCode());
+        assertEquals(HttpStatus.CONFLICT, restTemplate.exchange("/api/tasks/" + task.getId(), HttpMethod.DELETE,
+            null, String.class).getStatusCode());
+    }
+
+    /** A filter built at startup, as after a restart, has to know about tasks archived before it. */
+    @Test
+    void archivedTasks_ShouldStayReadableWithAFilterBuiltAfterArchiving() {
+        TaskResponse task = create("Archived before restart", LocalDateTime.now().plusDays(1));
+        restTemplate.put("/api/tasks/" + task.getId(),
+            new TaskRequest("Archived before restart", null, TaskStatus.COMPLETED, task.getDueDateTime()));
+        assertTrue(taskArchiver.archive() >= 1);
+
+        TaskIdFilter rebuilt = new TaskIdFilter(taskRepository, archivedTaskRepository, transactionManager,
+            taskShards, true, 1 << 26);
+        rebuilt.build();
+        assertTrue(rebuilt.mightExist(task.getId()));
+        assertFalse(rebuilt.mightExist((1L << 26) - 1));
+
+        Object service = AopTestUtils.getUltimateTargetObject(taskService);
+        Object startupFilter = ReflectionTestUtils.getField(service, "taskIdFilter");
+        ReflectionTestUtils.setField(service, "taskIdFilter", rebuilt);
+        try {
+            TaskResponse archived = restTemplate.getForObject("/api/tasks/" + task.getId(), TaskResponse.class);
+            assertEquals(TaskStatus.COMPLETED, archived.getStatus());
+        } finally {
+            ReflectionTestUtils.setField(service, "taskIdFilter", startupFilter);
+        }
+    }
+
+    private TaskResponse create(String title, LocalDateTime due) {
+        return restTemplate.postForObject("/api/tasks", new TaskRequest(title, null, TaskStatus.TODO, due),
+            TaskResponse.class);
+    }
+}
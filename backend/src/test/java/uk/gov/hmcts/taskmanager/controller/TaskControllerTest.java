@@ -8,19 +8,44 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import uk.gov.hmcts.taskmanager.dto.BatchItemResult;
+import uk.gov.hmcts.taskmanager.dto.BatchResponse;
+import uk.gov.hmcts.taskmanager.dto.CacheStatsResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskFilter;
+import uk.gov.hmcts.taskmanager.dto.TaskPageResponse;
 import uk.gov.hmcts.taskmanager.dto.TaskRequest;
 import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskStatsResponse;
+import uk.gov.hmcts.taskmanager.exception.BadRequestException;
+import uk.gov.hmcts.taskmanager.exception.ConflictException;
+import uk.gov.hmcts.taskmanager.exception.PreconditionFailedException;
 import uk.gov.hmcts.taskmanager.exception.ResourceNotFoundException;
+import uk.gov.hmcts.taskmanager.exception.ServiceUnavailableException;
 import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.service.AdmissionControl;
+import uk.gov.hmcts.taskmanager.service.AdmissionControl.RequestClass;
+import uk.gov.hmcts.taskmanager.service.TaskBatchService;
+import uk.gov.hmcts.taskmanager.service.TaskEventFeed;
+import uk.gov.hmcts.taskmanager.service.TaskExportService;
 import uk.gov.hmcts.taskmanager.service.TaskService;
+import uk.gov.hmcts.taskmanager.service.TaskSyncService;
+import uk.gov.hmcts.taskmanager.service.TaskWritePipeline;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,6 +62,24 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskExportService taskExportService;
+
+    @MockBean
+    private TaskBatchService taskBatchService;
+
+    @MockBean
+    private TaskEventFeed taskEventFeed;
+
+    @MockBean
+    private TaskSyncService taskSyncService;
+
+    @MockBean
+    private TaskWritePipeline taskWritePipeline;
+
+    @MockBean
+    private AdmissionControl admissionControl;
+
     private TaskRequest taskRequest;
     private TaskResponse taskResponse;
 
@@ -58,6 +101,7 @@ class TaskControllerTest {
         taskResponse.setDueDateTime(dueDate);
         taskResponse.setCreatedAt(LocalDateTime.now());
         taskResponse.setUpdatedAt(LocalDateTime.now());
+        taskResponse.setVersion(3L);
     }
 
     @Test
@@ -75,6 +119,20 @@ class TaskControllerTest {
         verify(taskService, times(1)).createTask(any(TaskRequest.class));
     }
 
+    @Test
+    void createTask_WhenWritePipelineEnabled_ShouldCreateThroughPipeline() throws Exception {
+        when(taskWritePipeline.isEnabled()).thenReturn(true);
+        when(taskWritePipeline.create(any(TaskRequest.class))).thenReturn(taskResponse);
+
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").value(1));
+
+        verify(taskService, never()).createTask(any(TaskRequest.class));
+    }
+
     @Test
     void createTask_WithInvalidData_ShouldReturn400() throws Exception {
         TaskRequest invalidRequest = new TaskRequest();
@@ -94,11 +152,21 @@ class TaskControllerTest {
         mockMvc.perform(get("/api/tasks/1"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id").value(1))
-            .andExpect(jsonPath("$.title").value("Test Task"));
+            .andExpect(jsonPath("$.title").value("Test Task"))
+            .andExpect(header().string("ETag", "\"3\""));
 
         verify(taskService, times(1)).getTaskById(1L);
     }
 
+    @Test
+    void getTaskById_WhenETagMatches_ShouldReturn304WithoutBody() throws Exception {
+        when(taskService.getTaskById(1L)).thenReturn(taskResponse);
+
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "\"3\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
     @Test
     void getTaskById_WhenTaskNotFound_ShouldReturn404() throws Exception {
         when(taskService.getTaskById(1L)).thenThrow(new ResourceNotFoundException("Task not found"));
@@ -118,10 +186,12 @@ class TaskControllerTest {
         task2.setDueDateTime(LocalDateTime.now().plusDays(2));
 
         List<TaskResponse> tasks = Arrays.asList(taskResponse, task2);
+        when(taskService.getTaskListVersion()).thenReturn("2-1000-5");
         when(taskService.getAllTasks()).thenReturn(tasks);
 
         mockMvc.perform(get("/api/tasks"))
             .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "W/\"2-1000-5\""))
             .andExpect(jsonPath("$.length()").value(2))
             .andExpect(jsonPath("$[0].title").value("Test Task"))
             .andExpect(jsonPath("$[1].title").value("Task 2"));
@@ -129,10 +199,132 @@ class TaskControllerTest {
         verify(taskService, times(1)).getAllTasks();
     }
 
+    @Test
+    void getAllTasks_WhenETagMatches_ShouldReturn304WithoutLoadingTasks() throws Exception {
+        when(taskService.getTaskListVersion()).thenReturn("2-1000-5");
+
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", "\"2-1000-5\""))
+            .andExpect(status().isNotModified());
+
+        verify(taskService, never()).getAllTasks();
+    }
+
+    @Test
+    void getTaskPage_ShouldReturn200WithCursor() throws Exception {
+        TaskPageResponse page = new TaskPageResponse(List.of(taskResponse), "next-token");
+        when(taskService.getTaskPage(any(TaskFilter.class), isNull(), eq(1))).thenReturn(page);
+
+        mockMvc.perform(get("/api/tasks/page")
+                .param("status", "TODO", "IN_PROGRESS")
+                .param("dueFrom", "2026-01-01T00:00:00")
+                .param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tasks.length()").value(1))
+            .andExpect(jsonPath("$.tasks[0].title").value("Test Task"))
+            .andExpect(jsonPath("$.nextCursor").value("next-token"));
+
+        verify(taskService, times(1)).getTaskPage(
+            argThat(filter -> filter.getStatuses().equals(Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                && filter.getDueFrom().equals(LocalDateTime.of(2026, 1, 1, 0, 0))
+                && filter.getDueTo() == null
+                && !filter.isOverdue()),
+            isNull(), eq(1));
+    }
+
+    @Test
+    void getOverdueTasks_ShouldQueryOverdueOnly() throws Exception {
+        when(taskService.getTaskPage(any(TaskFilter.class), isNull(), isNull()))
+            .thenReturn(new TaskPageResponse(List.of(taskResponse), null));
+
+        mockMvc.perform(get("/api/tasks/overdue"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tasks[0].id").value(1))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(taskService, times(1)).getTaskPage(argThat(TaskFilter::isOverdue), isNull(), isNull());
+    }
+
+    @Test
+    void getArchivedTasks_ShouldQueryArchive() throws Exception {
+        when(taskService.getArchivedTaskPage(any(TaskFilter.class), eq("token"), isNull()))
+            .thenReturn(new TaskPageResponse(List.of(taskResponse), null));
+
+        mockMvc.perform(get("/api/tasks/archive").param("status", "COMPLETED").param("cursor", "token"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tasks[0].id").value(1));
+
+        verify(taskService, times(1)).getArchivedTaskPage(
+            argThat(filter -> filter.getStatuses().equals(Set.of(TaskStatus.COMPLETED)) && !filter.isOverdue()),
+            eq("token"), isNull());
+    }
+
+    @Test
+    void getTaskPage_WithInvalidCursor_ShouldReturn400() throws Exception {
+        when(taskService.getTaskPage(any(TaskFilter.class), eq("bad"), isNull()))
+            .thenThrow(new BadRequestException("Invalid cursor: bad"));
+
+        mockMvc.perform(get("/api/tasks/page").param("cursor", "bad"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid cursor: bad"));
+    }
+
+    @Test
+    void searchTasks_ShouldReturn200WithMatches() throws Exception {
+        when(taskService.searchTasks("test", null)).thenReturn(List.of(taskResponse));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "test"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].title").value("Test Task"));
+    }
+
+    @Test
+    void exportTasks_ShouldStreamNdjson() throws Exception {
+        when(taskExportService.exportTasks(any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    void getTaskStats_ShouldReturn200WithCounts() throws Exception {
+        Map<TaskStatus, Long> byStatus = Map.of(
+            TaskStatus.TODO, 3L, TaskStatus.IN_PROGRESS, 2L, TaskStatus.COMPLETED, 5L, TaskStatus.CANCELLED, 0L);
+        when(taskService.getTaskStats()).thenReturn(new TaskStatsResponse(byStatus, 10, 1, null));
+
+        mockMvc.perform(get("/api/tasks/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.byStatus.TODO").value(3))
+            .andExpect(jsonPath("$.total").value(10))
+            .andExpect(jsonPath("$.overdue").value(1));
+    }
+
+    @Test
+    void getCacheStats_ShouldReturn200() throws Exception {
+        when(taskService.getCacheStats()).thenReturn(new CacheStatsResponse(true, 3, 10, 2, 10 / 12.0, 1));
+
+        mockMvc.perform(get("/api/tasks/cache/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.enabled").value(true))
+            .andExpect(jsonPath("$.hitCount").value(10))
+            .andExpect(jsonPath("$.missCount").value(2))
+            .andExpect(jsonPath("$.evictionCount").value(1));
+    }
+
     @Test
     void updateTaskStatus_ShouldReturn200() throws Exception {
         taskResponse.setStatus(TaskStatus.COMPLETED);
-        when(taskService.updateTaskStatus(eq(1L), any(TaskStatus.class))).thenReturn(taskResponse);
+        when(taskService.updateTaskStatus(eq(1L), any(TaskStatus.class), isNull())).thenReturn(taskResponse);
 
         Map<String, String> statusUpdate = Map.of("status", "COMPLETED");
 
@@ -142,20 +334,35 @@ class TaskControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.status").value("COMPLETED"));
 
-        verify(taskService, times(1)).updateTaskStatus(eq(1L), any(TaskStatus.class));
+        verify(taskService, times(1)).updateTaskStatus(eq(1L), any(TaskStatus.class), isNull());
     }
 
     @Test
     void updateTask_ShouldReturn200() throws Exception {
-        when(taskService.updateTask(eq(1L), any(TaskRequest.class))).thenReturn(taskResponse);
+        when(taskService.updateTask(eq(1L), any(TaskRequest.class), eq(2L))).thenReturn(taskResponse);
 
         mockMvc.perform(put("/api/tasks/1")
+                .header("If-Match", "\"2\"")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(taskRequest)))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$.id").value(1));
+            .andExpect(jsonPath("$.id").value(1))
+            .andExpect(header().string("ETag", "\"3\""));
+
+        verify(taskService, times(1)).updateTask(eq(1L), any(TaskRequest.class), eq(2L));
+    }
+
+    @Test
+    void updateTask_WhenIfMatchIsStale_ShouldReturn412() throws Exception {
+        when(taskService.updateTask(eq(1L), any(TaskRequest.class), eq(1L)))
+            .thenThrow(new PreconditionFailedException("Task 1 has changed; current version is 3"));
 
-        verify(taskService, times(1)).updateTask(eq(1L), any(TaskRequest.class));
+        mockMvc.perform(put("/api/tasks/1")
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.message").value("Task 1 has changed; current version is 3"));
     }
 
     @Test
@@ -177,4 +384,61 @@ class TaskControllerTest {
 
         verify(taskService, times(1)).deleteTask(1L);
     }
+
+    @Test
+    void deleteTask_WhenTaskIsArchived_ShouldReturn409() throws Exception {
+        doThrow(new ConflictException("Task 1 is archived and can no longer be changed")).when(taskService).deleteTask(1L);
+
+        mockMvc.perform(delete("/api/tasks/1"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("Task 1 is archived and can no longer be changed"));
+    }
+
+    @Test
+    void getAllTasks_WhenShed_ShouldReturn503WithRetryAfter() throws Exception {
+        when(admissionControl.admit(RequestClass.BULK_READ))
+            .thenThrow(new ServiceUnavailableException("The service is overloaded; retry later", Duration.ofSeconds(3)));
+
+        mockMvc.perform(get("/api/tasks"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "3"))
+            .andExpect(jsonPath("$.message").value("The service is overloaded; retry later"));
+        verify(taskService, never()).getAllTasks();
+    }
+
+    @Test
+    void createTasks_ShouldReturn200WithPerItemResults() throws Exception {
+        BatchResponse batch = BatchResponse.of(List.of(
+            BatchItemResult.created(0, taskResponse),
+            BatchItemResult.invalid(1, null, Map.of("title", "Title is required"))));
+        when(taskBatchService.createTasks(anyList())).thenReturn(batch);
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(taskRequest, new TaskRequest()))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.succeeded").value(1))
+            .andExpect(jsonPath("$.failed").value(1))
+            .andExpect(jsonPath("$.results[0].outcome").value("CREATED"))
+            .andExpect(jsonPath("$.results[0].task.id").value(1))
+            .andExpect(jsonPath("$.results[1].validationErrors.title").value("Title is required"));
+
+        verify(taskBatchService, times(1)).createTasks(argThat(requests -> requests.size() == 2));
+    }
+
+    @Test
+    void deleteTasks_ShouldReturn200WithPerItemResults() throws Exception {
+        BatchResponse batch = BatchResponse.of(List.of(
+            BatchItemResult.deleted(0, 1L),
+            BatchItemResult.notFound(1, 2L)));
+        when(taskBatchService.deleteTasks(List.of(1L, 2L))).thenReturn(batch);
+
+        mockMvc.perform(delete("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1, 2]"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results[0].outcome").value("DELETED"))
+            .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"))
+            .andExpect(jsonPath("$.results[1].message").value("Task not found with id: 2"));
+    }
 }
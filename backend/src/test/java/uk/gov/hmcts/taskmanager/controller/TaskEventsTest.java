@@ -0,0 +1,124 @@
+package uk.gov.hmcts.taskmanager.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.show-sql=false"
+})
+class TaskEventsTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ExecutorService readers = Executors.newCachedThreadPool();
+    private final List<InputStream> streams = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (InputStream stream : streams) {
+            stream.close();
+        }
+        readers.shutdownNow();
+    }
+
+    @Test
+    void subscriberReceivesCommittedChangesAndCanResumeFromLastEventId() throws Exception {
+        BufferedReader events = subscribe(null);
+        TaskResponse task = restTemplate.postForObject("/api/tasks", request("Feed task"), TaskResponse.class);
+        restTemplate.put("/api/tasks/" + task.getId(), request("Feed task renamed"));
+
+        Map<String, String> created = nextEvent(events);
+        assertEquals("created", created.get("event"));
+        assertTrue(created.get("data").contains("\"taskId\":" + task.getId()));
+        Map<String, String> updated = nextEvent(events);
+        assertEquals("updated", updated.get("event"));
+        assertTrue(updated.get("data").contains("Feed task renamed"));
+
+        restTemplate.delete("/api/tasks/" + task.getId());
+        assertEquals("deleted", nextEvent(events).get("event"));
+
+        BufferedReader replay = subscribe(created.get("id"));
+        Map<String, String> replayed = nextEvent(replay);
+        assertEquals(updated.get("id"), replayed.get("id"));
+        assertEquals("updated", replayed.get("event"));
+        assertEquals("deleted", nextEvent(replay).get("event"));
+    }
+
+    @Test
+    void unknownLastEventIdTriggersResync() throws Exception {
+        BufferedReader events = subscribe("stale-42");
+
+        assertEquals("resync", nextEvent(events).get("event"));
+    }
+
+    private BufferedReader subscribe(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/events"))
+            .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<InputStream> response = client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, response.statusCode());
+        streams.add(response.body());
+        return new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8));
+    }
+
+    /** Reads the next event with data, skipping comments and retry hints, as field name to value. */
+    private Map<String, String> nextEvent(BufferedReader reader) throws Exception {
+        Future<Map<String, String>> event = readers.submit(() -> {
+            Map<String, String> fields = new LinkedHashMap<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    if (fields.containsKey("data")) {
+                        return fields;
+                    }
+                    fields.clear();
+                } else if (!line.startsWith(":")) {
+                    int colon = line.indexOf(':');
+                    fields.put(line.substring(0, colon), line.substring(colon + 1));
+                }
+            }
+            throw new IOException("Stream closed");
+        });
+        return event.get(10, TimeUnit.SECONDS);
+    }
+
+    private static TaskRequest request(String title) {
+        return new TaskRequest(title, null, TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+    }
+}
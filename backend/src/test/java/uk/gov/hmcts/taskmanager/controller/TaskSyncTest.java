@@ -0,0 +1,128 @@
+package uk.gov.hmcts.taskmanager.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import uk.gov.hmcts.taskmanager.dto.TaskChangesResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.service.TaskSyncService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.show-sql=false"
+})
+class TaskSyncTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TaskSyncService taskSyncService;
+
+    @Test
+    void changesSinceWatermark_ShouldReturnLatestStateOfChangedTasksAndDeletedIds() {
+        String watermark = catchUp(null);
+        TaskResponse kept = create("Kept task");
+        TaskResponse removed = create("Removed task");
+        restTemplate.put("/api/tasks/" + kept.getId(), request("Kept task renamed"));
+        restTemplate.delete("/api/tasks/" + removed.getId());
+
+        TaskChangesResponse changes = changes(watermark, null, null);
+
+        assertEquals(1, changes.getTasks().size());
+        assertEquals(kept.getId(), changes.getTasks().get(0).getId());
+        assertEquals("Kept task renamed", changes.getTasks().get(0).getTitle());
+        assertEquals(List.of(removed.getId()), changes.getDeletedIds());
+        assertFalse(changes.isHasMore());
+        assertFalse(changes.isReset());
+
+        TaskChangesResponse none = changes(changes.getWatermark(), null, null);
+        assertTrue(none.getTasks().isEmpty());
+        assertTrue(none.getDeletedIds().isEmpty());
+        assertEquals(changes.getWatermark(), none.getWatermark());
+    }
+
+    @Test
+    void changesSinceWatermark_ShouldPageInChangeOrder() {
+        String watermark = catchUp(null);
+        TaskResponse first = create("First change");
+        TaskResponse second = create("Second change");
+
+        TaskChangesResponse page = changes(watermark, null, 1);
+        assertEquals(first.getId(), page.getTasks().get(0).getId());
+        assertTrue(page.isHasMore());
+
+        page = changes(page.getWatermark(), null, 1);
+        assertEquals(second.getId(), page.getTasks().get(0).getId());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void compaction_ShouldKeepTombstonesUntilKnownClientsHavePassedThem() {
+        create("Existing task");
+        String start = catchUp("tablet-1");
+        restTemplate.delete("/api/tasks/" + create("Deleted first").getId());
+        restTemplate.delete("/api/tasks/" + create("Deleted second").getId());
+
+        taskSyncService.compactTombstones();
+        assertEquals(2, changes(start, null, null).getDeletedIds().size());
+
+        catchUp("tablet-1");
+        taskSyncService.compactTombstones();
+        TaskChangesResponse stale = changes(start, null, null);
+        assertTrue(stale.isReset());
+        assertTrue(stale.getDeletedIds().isEmpty());
+    }
+
+    @Test
+    void invalidWatermark_ShouldReturnBadRequest() {
+        ResponseEntity<Map> response = restTemplate.getForEntity("/api/tasks/changes?since=not-a-token", Map.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    /** Syncs until nothing is left and returns the final watermark, acknowledged by {@code clientId} if given. */
+    private String catchUp(String clientId) {
+        TaskChangesResponse page = changes(null, clientId, TaskSyncService.MAX_CHANGES_LIMIT);
+        String watermark;
+        do {
+            watermark = page.getWatermark();
+            page = changes(watermark, clientId, TaskSyncService.MAX_CHANGES_LIMIT);
+        } while (!page.getWatermark().equals(watermark));
+        return watermark;
+    }
+
+    private TaskChangesResponse changes(String since, String clientId, Integer limit) {
+        StringBuilder url = new StringBuilder("/api/tasks/changes?");
+        if (since != null) {
+            url.append("since=").append(since).append('&');
+        }
+        if (clientId != null) {
+            url.append("clientId=").append(clientId).append('&');
+        }
+        if (limit != null) {
+            url.append("limit=").append(limit);
+        }
+        ResponseEntity<TaskChangesResponse> response = restTemplate.getForEntity(url.toString(), TaskChangesResponse.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return response.getBody();
+    }
+
+    private TaskResponse create(String title) {
+        return restTemplate.postForObject("/api/tasks", request(title), TaskResponse.class);
+    }
+
+    private static TaskRequest request(String title) {
+        return new TaskRequest(title, null, TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+    }
+}
@@ -0,0 +1,119 @@
+package uk.gov.hmcts.taskmanager.controller;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the task API concurrently with virtual threads enabled and fails if
+ * any request thread parks while pinned to its carrier by a monitor held in
+ * the data path (JFR {@code jdk.VirtualThreadPinned}). Only runs on Java 21+.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.threads.virtual.enabled=true",
+    "spring.jpa.show-sql=false",
+    "taskmanager.cache.enabled=false",
+    "taskmanager.admission.enabled=false"
+})
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+
+    private static final int CLIENTS = 32;
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void taskApi_ShouldNotPinVirtualThreads(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("pinning.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadStart");
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            runWorkload();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        long started = 0;
+        List<String> pinned = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            if (event.getEventType().getName().equals("jdk.VirtualThreadStart")) {
+                started++;
+                continue;
+            }
+            pinned.add(event.getStackTrace() == null ? "<no stack>" : event.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining("\n  ")));
+        }
+        assertTrue(started > 0, "Requests were not served on virtual threads");
+        assertTrue(pinned.isEmpty(), "Virtual threads pinned:\n  " + String.join("\n\n  ", pinned));
+    }
+
+    private void runWorkload() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int client = 0; client < CLIENTS; client++) {
+                int clientId = client;
+                results.add(clients.submit(() -> {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        exercise(clientId, round);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    private void exercise(int client, int round) {
+        TaskRequest request = new TaskRequest("Client " + client + " round " + round, "Pinning check",
+            TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        ResponseEntity<TaskResponse> created = restTemplate.postForEntity("/api/tasks", request, TaskResponse.class);
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        Long id = created.getBody().getId();
+
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api/tasks/" + id, TaskResponse.class).getStatusCode());
+        request.setStatus(TaskStatus.IN_PROGRESS);
+        assertEquals(HttpStatus.OK, restTemplate.exchange("/api/tasks/" + id, HttpMethod.PUT,
+            new HttpEntity<>(request), TaskResponse.class).getStatusCode());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api/tasks/search?q=client " + client,
+            TaskResponse[].class).getStatusCode());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api/tasks/page?limit=20", String.class).getStatusCode());
+        restTemplate.delete("/api/tasks/" + id);
+    }
+}
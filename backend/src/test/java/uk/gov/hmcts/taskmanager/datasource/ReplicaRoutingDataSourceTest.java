@@ -0,0 +1,94 @@
+package uk.gov.hmcts.taskmanager.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replicaSource = mock(DataSource.class);
+    private final Replica replica = new Replica("replica-1", replicaSource);
+    private final ReplicaRoutingDataSource dataSource =
+        new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(5));
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replicaSource.getConnection()).thenReturn(replicaConnection);
+    }
+
+    @Test
+    void getConnection_WhenReplicaHasCaughtUp_ShouldUseReplica() throws SQLException {
+        replica.caughtUp(10, LocalDateTime.now());
+
+        assertSame(replicaConnection, dataSource.getConnection());
+        assertSame(replicaConnection, connectionAtLeast(10));
+    }
+
+    @Test
+    void getConnection_WhenReplicaIsBehindRequiredPosition_ShouldUsePrimary() throws SQLException {
+        replica.caughtUp(10, LocalDateTime.now());
+
+        assertSame(primaryConnection, connectionAtLeast(11));
+
+        ReadConsistency.open(11);
+        try {
+            assertSame(primaryConnection, dataSource.getConnection());
+        } finally {
+            ReadConsistency.close();
+        }
+    }
+
+    @Test
+    void getConnection_WhenReplicaHeartbeatIsTooOld_ShouldUsePrimary() throws SQLException {
+        replica.caughtUp(10, LocalDateTime.now().minusSeconds(6));
+
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_WhenReplicaRefusesConnection_ShouldFailBackToPrimaryAndMarkItDown() throws SQLException {
+        replica.caughtUp(10, LocalDateTime.now());
+        when(replicaSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertFalse(replica.isUp());
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        verify(replicaSource, times(1)).getConnection();
+    }
+
+    @Test
+    void getConnection_FromPrimary_ShouldNeverUseReplica() throws SQLException {
+        replica.caughtUp(Long.MAX_VALUE - 1, LocalDateTime.now());
+        Connection[] connection = new Connection[1];
+
+        ReadConsistency.fromPrimary(() -> connection[0] = connect());
+
+        assertSame(primaryConnection, connection[0]);
+    }
+
+    private Connection connectionAtLeast(long position) {
+        return ReadConsistency.atLeast(position, this::connect);
+    }
+
+    private Connection connect() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package uk.gov.hmcts.taskmanager.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.model.Task;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class TaskRepositoryTest {
+
+    private static final int TASK_COUNT = 2000;
+    private static final int PAGE_SIZE = 20;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+    // Mostly finished work, as in production
+    private static final TaskStatus[] STATUS_MIX = {
+        TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED, TaskStatus.COMPLETED,
+        TaskStatus.COMPLETED, TaskStatus.COMPLETED, TaskStatus.COMPLETED, TaskStatus.CANCELLED
+    };
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(STATUS_MIX[i % STATUS_MIX.length]);
+            // Every due date is shared by four tasks so the id tie-breaker is exercised
+            task.setDueDateTime(BASE.plusMinutes(i / 4));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findPage_ShouldWalkAllTasksInKeysetOrderWithoutDuplicates() {
+        List<Task> seen = new ArrayList<>();
+        Specification<Task> spec = Specification.where(null);
+        List<Task> page = taskRepository.findPage(spec, PAGE_SIZE);
+        while (!page.isEmpty()) {
+            seen.addAll(page);
+            Task last = page.get(page.size() - 1);
+            page = taskRepository.findPage(TaskSpecifications.after(last.getDueDateTime(), last.getId()), PAGE_SIZE);
+        }
+
+        assertEquals(TASK_COUNT, seen.size());
+        for (int i = 1; i < seen.size(); i++) {
+            Task previous = seen.get(i - 1);
+            Task current = seen.get(i);
+            int byDue = previous.getDueDateTime().compareTo(current.getDueDateTime());
+            assertTrue(byDue < 0 || (byDue == 0 && previous.getId() < current.getId()));
+        }
+    }
+
+    @Test
+    void findPage_ShouldApplyStatusAndDueRangeFilters() {
+        Specification<Task> spec = Specification.where(TaskSpecifications.<Task>statusIn(List.of(TaskStatus.TODO)))
+            .and(TaskSpecifications.dueOnOrAfter(BASE.plusMinutes(10)))
+            .and(TaskSpecifications.dueBefore(BASE.plusMinutes(20)));
+
+        List<Task> page = taskRepository.findPage(spec, 100);
+
+        assertEquals(5, page.size());
+        assertTrue(page.stream().allMatch(task -> task.getStatus() == TaskStatus.TODO));
+        assertTrue(page.stream().noneMatch(task -> task.getDueDateTime().isBefore(BASE.plusMinutes(10))));
+        assertTrue(page.stream().allMatch(task -> task.getDueDateTime().isBefore(BASE.plusMinutes(20))));
+    }
+
+    @Test
+    void findAllResponses_ShouldProjectWithoutManagingEntities() {
+        List<TaskResponse> responses = taskRepository.findAllResponses();
+
+        assertEquals(TASK_COUNT, responses.size());
+        assertTrue(responses.stream().allMatch(response -> response.getId() != null
+            && response.getTitle() != null && response.getCreatedAt() != null));
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void keysetPage_ShouldScanTheSameNumberOfRowsAtAnyDepth() {
+        Task near = taskRepository.findPage(Specification.where(null), 1).get(0);
+        List<Task> deep = taskRepository.findPage(
+            TaskSpecifications.dueOnOrAfter(BASE.plusMinutes((TASK_COUNT - PAGE_SIZE * 2) / 4)), 1);
+
+        long nearScan = keysetScanCount(near);
+        long deepScan = keysetScanCount(deep.get(0));
+        long offsetScan = offsetScanCount(TASK_COUNT - PAGE_SIZE * 2);
+
+        assertTrue(nearScan <= PAGE_SIZE + 4, "near scan was " + nearScan);
+        assertEquals(nearScan, deepScan);
+        assertTrue(offsetScan > TASK_COUNT / 2, "offset scan was " + offsetScan);
+    }
+
+    @Test
+    void findPage_WithOverdueSpec_ShouldReturnOnlyOpenPastDueTasks() {
+        LocalDateTime now = BASE.plusMinutes(100);
+
+        List<Task> page = taskRepository.findPage(TaskSpecifications.overdue(now), TASK_COUNT);
+
+        assertEquals(100, page.size());
+        assertTrue(page.stream().allMatch(task -> task.getStatus().isOpen() && task.getDueDateTime().isBefore(now)));
+    }
+
+    @Test
+    void findListVersion_ShouldChangeWhenATaskIsUpdated() {
+        TaskListVersion before = taskRepository.findListVersion();
+        Task task = taskRepository.findAll(PageRequest.of(0, 1)).getContent().get(0);
+        task.setTitle("Renamed");
+        taskRepository.saveAndFlush(task);
+
+        TaskListVersion after = taskRepository.findListVersion();
+        assertEquals(1L, task.getVersion());
+        assertEquals(TASK_COUNT, after.getCount());
+        assertEquals(before.getVersionSum() + 1, after.getVersionSum());
+    }
+
+    @Test
+    void updateStatusReturningPrevious_ShouldIssueOneStatement() {
+        Task task = taskRepository.findAll(PageRequest.of(0, 1)).getContent().get(0);
+        entityManager.clear();
+        LocalDateTime updatedAt = BASE.plusDays(1);
+
+        Statistics statistics = statistics();
+        Optional<TaskResponse> previous = taskRepository.updateStatusReturningPrevious(
+            task.getId(), TaskStatus.CANCELLED, updatedAt, 42L, task.getVersion());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(task.getStatus(), previous.orElseThrow().getStatus());
+        assertEquals(task.getTitle(), previous.get().getTitle());
+        Task updated = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(TaskStatus.CANCELLED, updated.getStatus());
+        assertEquals(updatedAt, updated.getUpdatedAt());
+        assertEquals(42L, updated.getChangeSeq());
+        assertEquals(task.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    void updateStatusReturningPrevious_WhenVersionIsStaleOrTaskMissing_ShouldUpdateNothing() {
+        Task task = taskRepository.findAll(PageRequest.of(0, 1)).getContent().get(0);
+
+        assertTrue(taskRepository.updateStatusReturningPrevious(
+            task.getId(), TaskStatus.CANCELLED, BASE, 1L, task.getVersion() + 1).isEmpty());
+        assertTrue(taskRepository.updateStatusReturningPrevious(
+            -1L, TaskStatus.CANCELLED, BASE, 1L, null).isEmpty());
+        entityManager.clear();
+        assertEquals(task.getStatus(), taskRepository.findById(task.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void deleteReturningPrevious_ShouldIssueOneStatement() {
+        Task task = taskRepository.findAll(PageRequest.of(0, 1)).getContent().get(0);
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        Optional<TaskResponse> previous = taskRepository.deleteReturningPrevious(task.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(task.getId(), previous.orElseThrow().getId());
+        assertFalse(taskRepository.existsById(task.getId()));
+        assertTrue(taskRepository.deleteReturningPrevious(task.getId()).isEmpty());
+    }
+
+    @Test
+    void countByStatus_ShouldAggregateTotals() {
+        List<TaskStatusCount> counts = taskRepository.countByStatus();
+
+        TaskStatusCount todo = counts.stream()
+            .filter(count -> count.getStatus() == TaskStatus.TODO)
+            .findFirst()
+            .orElseThrow();
+        assertEquals(4, counts.size());
+        assertEquals(TASK_COUNT, counts.stream().mapToLong(TaskStatusCount::getTotal).sum());
+        assertEquals(TASK_COUNT / 8, todo.getTotal());
+    }
+
+    @Test
+    void countAllByStatus_ShouldCountArchivedTasksAlongsideLiveOnes() {
+        List<Long> archived = taskRepository.findAll().stream()
+            .filter(task -> task.getStatus() == TaskStatus.COMPLETED)
+            .map(Task::getId)
+            .limit(10)
+            .toList();
+        archivedTaskRepository.copyFromTasks(archived);
+        taskRepository.deleteAllByIdInBatch(archived);
+
+        List<TaskStatusCount> counts = taskRepository.countAllByStatus();
+
+        TaskStatusCount completed = counts.stream()
+            .filter(count -> count.getStatus() == TaskStatus.COMPLETED)
+            .findFirst()
+            .orElseThrow();
+        assertEquals(TASK_COUNT, counts.stream().mapToLong(TaskStatusCount::getTotal).sum());
+        assertEquals(TASK_COUNT / 8 * 5, completed.getTotal());
+    }
+
+    @Test
+    void streamDueTimesByStatusIn_ShouldReturnOnlyOpenTasks() {
+        try (Stream<TaskDueTime> dueTimes = taskRepository.streamDueTimesByStatusIn(TaskStatus.openStatuses())) {
+            assertEquals(TASK_COUNT / 4, dueTimes.count());
+        }
+    }
+
+    @Test
+    void statusAndDueRangeQuery_ShouldUseCompositeStatusIndex() {
+        String plan = explain("SELECT * FROM tasks WHERE status IN ('TODO', 'IN_PROGRESS')"
+            + " AND due_date_time >= ?1 AND due_date_time < ?2"
+            + " ORDER BY due_date_time, id FETCH FIRST " + PAGE_SIZE + " ROWS ONLY",
+            BASE.plusMinutes(100), BASE.plusMinutes(107));
+
+        assertTrue(plan.contains("IDX_TASKS_STATUS_DUE_DATE_TIME_ID"), plan);
+    }
+
+    @Test
+    void overdueQuery_ShouldUseCompositeStatusIndex() {
+        String plan = explain("SELECT * FROM tasks WHERE status IN ('TODO', 'IN_PROGRESS')"
+            + " AND due_date_time < ?1 ORDER BY due_date_time, id FETCH FIRST " + PAGE_SIZE + " ROWS ONLY",
+            BASE.plusMinutes(100));
+
+        assertTrue(plan.contains("IDX_TASKS_STATUS_DUE_DATE_TIME_ID"), plan);
+    }
+
+    @Test
+    void findChanges_ShouldReturnTasksInChangeOrderWithinRange() {
+        List<Task> tasks = taskRepository.findAll(PageRequest.of(0, 4)).getContent();
+        tasks.get(0).setChangeSeq(30);
+        tasks.get(1).setChangeSeq(10);
+        tasks.get(2).setChangeSeq(20);
+        tasks.get(3).setChangeSeq(40);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TaskChange> changes = taskRepository.findChanges(10, 40, Limit.of(2));
+
+        assertEquals(List.of(20L, 30L), changes.stream().map(TaskChange::changeSeq).toList());
+        assertEquals(tasks.get(2).getId(), changes.get(0).task().getId());
+        assertEquals(40, taskRepository.findMaxChangeSeq());
+    }
+
+    @Test
+    void changesQuery_ShouldUseChangeSequenceIndex() {
+        String plan = explain("SELECT * FROM tasks WHERE change_seq > ?1 AND change_seq <= ?2"
+            + " ORDER BY change_seq FETCH FIRST " + PAGE_SIZE + " ROWS ONLY", 100L, 200L);
+
+        assertTrue(plan.contains("IDX_TASKS_CHANGE_SEQ"), plan);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+    private String explain(String sql, Object... parameters) {
+        var query = entityManager.createNativeQuery("EXPLAIN ANALYZE " + sql);
+        for (int i = 0; i < parameters.length; i++) {
+            query.setParameter(i + 1, parameters[i]);
+        }
+        return query.getSingleResult().toString();
+    }
+
+    private long keysetScanCount(Task cursor) {
+        return scanCount(explain("SELECT * FROM tasks"
+            + " WHERE due_date_time >= ?1 AND (due_date_time > ?1 OR id > ?2)"
+            + " ORDER BY due_date_time, id FETCH FIRST " + PAGE_SIZE + " ROWS ONLY",
+            cursor.getDueDateTime(), cursor.getId()));
+    }
+
+    private long offsetScanCount(int offset) {
+        return scanCount(explain("SELECT * FROM tasks ORDER BY due_date_time, id"
+            + " OFFSET " + offset + " ROWS FETCH FIRST " + PAGE_SIZE + " ROWS ONLY"));
+    }
+
+    private long scanCount(String plan) {
+        Matcher matcher = SCAN_COUNT.matcher(plan);
+        assertTrue(matcher.find(), "no scan count in plan: " + plan);
+        return Long.parseLong(matcher.group(1));
+    }
+}
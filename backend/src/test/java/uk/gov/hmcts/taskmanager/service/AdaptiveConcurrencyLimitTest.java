@@ -0,0 +1,97 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long TARGET = Duration.ofMillis(100).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void tryAcquire_ShouldRejectOnceTheLimitIsInFlight() {
+        AdaptiveConcurrencyLimit limit = limit(2, Duration.ZERO, 1.0);
+
+        assertTrue(limit.tryAcquire(true));
+        assertTrue(limit.tryAcquire(true));
+        assertFalse(limit.tryAcquire(true));
+
+        limit.release(0);
+        assertTrue(limit.tryAcquire(true));
+    }
+
+    @Test
+    void lowPriority_ShouldOnlyFillItsShareOfTheLimit() {
+        AdaptiveConcurrencyLimit limit = limit(4, Duration.ZERO, 0.5);
+
+        assertTrue(limit.tryAcquire(false));
+        assertTrue(limit.tryAcquire(false));
+        assertFalse(limit.tryAcquire(false));
+        assertTrue(limit.tryAcquire(true));
+        assertTrue(limit.tryAcquire(true));
+        assertFalse(limit.tryAcquire(true));
+    }
+
+    @Test
+    void slowRequests_ShouldCutTheLimitOncePerTargetInterval() {
+        AdaptiveConcurrencyLimit limit = limit(20, Duration.ZERO, 1.0);
+        for (int i = 0; i < 5; i++) {
+            limit.tryAcquire(true);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            limit.release(TARGET * 2);
+        }
+        assertEquals(18, limit.limit());
+
+        clock.addAndGet(TARGET);
+        limit.tryAcquire(true);
+        limit.release(TARGET * 2);
+        assertEquals(16, limit.limit());
+    }
+
+    @Test
+    void fastRequests_ShouldRaiseTheLimitOnlyWhileItIsUsed() {
+        AdaptiveConcurrencyLimit limit = limit(4, Duration.ZERO, 1.0);
+
+        limit.tryAcquire(true);
+        limit.release(0);
+        assertEquals(4, limit.limit());
+
+        for (int round = 0; round < 4; round++) {
+            for (int i = 0; i < 4; i++) {
+                limit.tryAcquire(true);
+            }
+            for (int i = 0; i < 4; i++) {
+                limit.release(0);
+            }
+        }
+        assertEquals(5, limit.limit());
+    }
+
+    @Test
+    void fullQueue_ShouldRejectAtOnceAndTheWaiterGetTheNextFreeSlot() throws Exception {
+        AdaptiveConcurrencyLimit limit = limit(1, Duration.ofSeconds(5), 1.0);
+        assertTrue(limit.tryAcquire(true));
+
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> limit.tryAcquire(true));
+        Thread.sleep(50);
+        assertFalse(limit.tryAcquire(false));
+        limit.release(0);
+
+        assertTrue(waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(1, limit.inFlight());
+    }
+
+    private AdaptiveConcurrencyLimit limit(int initial, Duration queueTimeout, double lowPriorityShare) {
+        return new AdaptiveConcurrencyLimit(initial, 1, 100, Duration.ofNanos(TARGET), queueTimeout,
+            lowPriorityShare, clock::get);
+    }
+}
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DueTimeWheelTest {
+
+    @Test
+    void advance_ShouldReturnTasksOnceTheirDueTimeHasPassed() {
+        DueTimeWheel wheel = new DueTimeWheel(1000, 10_000);
+        assertTrue(wheel.schedule(1L, 12_500));
+        assertTrue(wheel.schedule(2L, 15_000));
+
+        assertEquals(List.of(), wheel.advance(12_999));
+        assertEquals(List.of(1L), wheel.advance(13_000));
+        assertEquals(List.of(2L), wheel.advance(20_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedule_WhenDueTimeHasPassed_ShouldNotSchedule() {
+        DueTimeWheel wheel = new DueTimeWheel(1000, 10_000);
+
+        assertFalse(wheel.schedule(1L, 9_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedule_ShouldReplaceEarlierDeadline() {
+        DueTimeWheel wheel = new DueTimeWheel(1000, 10_000);
+        wheel.schedule(1L, 11_000);
+        wheel.schedule(1L, 30_000);
+
+        assertEquals(List.of(), wheel.advance(20_000));
+        assertEquals(List.of(1L), wheel.advance(30_000));
+    }
+
+    @Test
+    void cancel_ShouldRemoveTask() {
+        DueTimeWheel wheel = new DueTimeWheel(1000, 10_000);
+        wheel.schedule(1L, 11_000);
+
+        assertTrue(wheel.cancel(1L));
+        assertFalse(wheel.cancel(1L));
+        assertEquals(List.of(), wheel.advance(20_000));
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventRingTest {
+
+    @Test
+    void after_ReturnsEventsFollowingSequenceInOrder() {
+        EventRing<String> ring = new EventRing<>(4);
+        assertEquals(1, ring.append("a"));
+        assertEquals(2, ring.append("b"));
+        assertEquals(3, ring.append("c"));
+
+        assertEquals(List.of("a", "b", "c"), ring.after(0, 10));
+        assertEquals(List.of("b"), ring.after(1, 1));
+        assertEquals(List.of(), ring.after(3, 10));
+    }
+
+    @Test
+    void append_WhenFull_OverwritesOldestAndForcesResyncForReadersBehindIt() {
+        EventRing<String> ring = new EventRing<>(3);
+        for (String item : List.of("a", "b", "c", "d", "e")) {
+            ring.append(item);
+        }
+
+        assertEquals(5, ring.head());
+        assertEquals(3, ring.oldest());
+        assertTrue(ring.canResumeFrom(2));
+        assertEquals(List.of("c", "d", "e"), ring.after(2, 10));
+        assertFalse(ring.canResumeFrom(1));
+        assertThrows(IllegalArgumentException.class, () -> ring.after(1, 10));
+    }
+
+    @Test
+    void canResumeFrom_RejectsSequencesNotYetIssued() {
+        EventRing<String> ring = new EventRing<>(3);
+        ring.append("a");
+
+        assertTrue(ring.canResumeFrom(0));
+        assertTrue(ring.canResumeFrom(1));
+        assertFalse(ring.canResumeFrom(2));
+        assertFalse(ring.canResumeFrom(-1));
+    }
+}
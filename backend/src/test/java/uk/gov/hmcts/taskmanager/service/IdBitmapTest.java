@@ -0,0 +1,55 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdBitmapTest {
+
+    @Test
+    void addAndRemove_TrackMembershipPerId() {
+        IdBitmap ids = new IdBitmap(1_000_000);
+        ids.add(1);
+        ids.add(63);
+        ids.add(64);
+        ids.add(999_999);
+
+        assertTrue(ids.contains(1));
+        assertTrue(ids.contains(63));
+        assertTrue(ids.contains(64));
+        assertTrue(ids.contains(999_999));
+        assertFalse(ids.contains(2));
+        assertFalse(ids.contains(65));
+        assertEquals(4, ids.size());
+
+        ids.remove(63);
+        ids.remove(500_000);
+        assertFalse(ids.contains(63));
+        assertTrue(ids.contains(64));
+        assertEquals(3, ids.size());
+    }
+
+    @Test
+    void pages_AreAllocatedOnlyForRangesInUse() {
+        IdBitmap ids = new IdBitmap(1L << 26);
+        assertEquals(0, ids.allocatedBytes());
+
+        ids.add(10);
+        ids.add(20_000);
+        assertEquals(8 * 1024, ids.allocatedBytes());
+
+        ids.add(50_000_000);
+        assertEquals(16 * 1024, ids.allocatedBytes());
+    }
+
+    @Test
+    void idsOutsideCapacity_AreNeverContainedAndCannotBeAdded() {
+        IdBitmap ids = new IdBitmap(100);
+
+        assertFalse(ids.covers(-1));
+        assertFalse(ids.covers(100));
+        assertFalse(ids.contains(100));
+        assertThrows(IllegalArgumentException.class, () -> ids.add(100));
+        assertThrows(IllegalArgumentException.class, () -> ids.add(-1));
+    }
+}
@@ -0,0 +1,66 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.add(1L, "Review case AB-1234", "Hearing bundle for the appeal");
+        index.add(2L, "Prepare hearing", "Case AB-1234 needs a hearing date");
+        index.add(3L, "Archive documents", "Closed case CD-5678");
+    }
+
+    @Test
+    void tokenize_ShouldLowercaseAndSplitOnPunctuation() {
+        assertEquals(List.of("case", "ab", "1234", "été"), InvertedIndex.tokenize("Case AB-1234, Été"));
+        assertEquals(List.of(), InvertedIndex.tokenize("  "));
+    }
+
+    @Test
+    void search_ShouldRequireEveryWordAndRankTitleMatchesFirst() {
+        assertEquals(List.of(1L, 2L), index.search("case ab 1234", 10));
+        assertEquals(List.of(2L, 1L), index.search("hearing", 10));
+        assertEquals(List.of(), index.search("case missing", 10));
+    }
+
+    @Test
+    void search_ShouldMatchWordPrefixesBelowExactMatches() {
+        index.add(4L, "Hear", null);
+
+        assertEquals(List.of(4L, 2L, 1L), index.search("hear", 10));
+        assertEquals(List.of(3L), index.search("arch", 10));
+        assertEquals(List.of(2L), index.search("a", 10));
+    }
+
+    @Test
+    void search_ShouldHonourLimit() {
+        assertEquals(List.of(2L), index.search("hearing", 1));
+    }
+
+    @Test
+    void update_ShouldReplaceChangedTerms() {
+        index.update(3L, "Archive documents", "Closed case CD-5678", "Archive documents", "Reopened");
+
+        assertEquals(List.of(), index.search("closed", 10));
+        assertEquals(List.of(3L), index.search("reopened archive", 10));
+        assertEquals(3, index.documentCount());
+    }
+
+    @Test
+    void remove_ShouldDropTaskFromEveryTerm() {
+        index.remove(2L, "Prepare hearing", "Case AB-1234 needs a hearing date");
+
+        assertEquals(List.of(1L), index.search("hearing", 10));
+        assertEquals(List.of(), index.search("prepare", 10));
+        assertEquals(2, index.documentCount());
+    }
+}
@@ -0,0 +1,131 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+import uk.gov.hmcts.taskmanager.event.TaskOverdueEvent;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueTrackerTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T09:00:00Z");
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MutableClock clock;
+    private OverdueTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        tracker = new OverdueTracker(taskRepository, transactionManager, TaskShards.single(), eventPublisher, 1000, clock);
+    }
+
+    @Test
+    void tick_WhenOpenTaskFallsDue_ShouldMarkOverdueAndPublishEvent() {
+        TaskResponse task = task(1L, TaskStatus.TODO, Duration.ofSeconds(5));
+        tracker.onTaskChanged(TaskChangedEvent.created(task));
+
+        tracker.tick();
+        assertFalse(tracker.isOverdue(1L));
+
+        clock.advance(Duration.ofSeconds(5));
+        tracker.tick();
+
+        assertTrue(tracker.isOverdue(1L));
+        assertEquals(1, tracker.overdueCount());
+        verify(eventPublisher).publishEvent(new TaskOverdueEvent(1L, task.getDueDateTime()));
+    }
+
+    @Test
+    void onTaskChanged_WhenTaskIsCompleted_ShouldStopTracking() {
+        TaskResponse task = task(1L, TaskStatus.TODO, Duration.ofSeconds(5));
+        tracker.onTaskChanged(TaskChangedEvent.created(task));
+        tracker.onTaskChanged(TaskChangedEvent.updated(task, task(1L, TaskStatus.COMPLETED, Duration.ofSeconds(5))));
+
+        clock.advance(Duration.ofSeconds(10));
+        tracker.tick();
+
+        assertEquals(0, tracker.overdueCount());
+        assertEquals(0, tracker.scheduledCount());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void onTaskChanged_WhenOpenTaskIsAlreadyPastDue_ShouldMarkOverdueImmediately() {
+        TaskResponse late = task(1L, TaskStatus.IN_PROGRESS, Duration.ofMinutes(-1));
+
+        tracker.onTaskChanged(TaskChangedEvent.created(late));
+
+        assertTrue(tracker.isOverdue(1L));
+        verify(eventPublisher).publishEvent(new TaskOverdueEvent(1L, late.getDueDateTime()));
+    }
+
+    @Test
+    void onTaskChanged_WhenOverdueTaskIsRescheduled_ShouldClearOverdue() {
+        TaskResponse late = task(1L, TaskStatus.TODO, Duration.ofMinutes(-1));
+        tracker.onTaskChanged(TaskChangedEvent.created(late));
+
+        tracker.onTaskChanged(TaskChangedEvent.updated(late, task(1L, TaskStatus.TODO, Duration.ofHours(1))));
+
+        assertFalse(tracker.isOverdue(1L));
+        assertEquals(1, tracker.scheduledCount());
+    }
+
+    private TaskResponse task(Long id, TaskStatus status, Duration dueIn) {
+        LocalDateTime due = LocalDateTime.ofInstant(clock.instant().plus(dueIn), ZoneId.systemDefault());
+        return new TaskResponse(id, "Task " + id, null, status, due, due, due, 0L);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import uk.gov.hmcts.taskmanager.dto.BatchItemOutcome;
+import uk.gov.hmcts.taskmanager.dto.BatchResponse;
+import uk.gov.hmcts.taskmanager.dto.BatchStatusUpdate;
+import uk.gov.hmcts.taskmanager.dto.BatchTaskUpdate;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+import uk.gov.hmcts.taskmanager.exception.BadRequestException;
+import uk.gov.hmcts.taskmanager.model.Task;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 2, 1, 10, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskChangeLog taskChangeLog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskBatchService taskBatchService;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        taskBatchService = new TaskBatchService(taskRepository, validator, taskChangeLog, TaskShards.single(), eventPublisher);
+    }
+
+    @Test
+    void createTasks_ShouldSaveValidItemsTogetherAndReportInvalidOnes() {
+        AtomicLong ids = new AtomicLong(100);
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(ids.incrementAndGet()));
+            return tasks;
+        });
+
+        BatchResponse response = taskBatchService.createTasks(Arrays.asList(
+            request("First"), new TaskRequest(), request("Third")));
+
+        assertEquals(2, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertEquals(BatchItemOutcome.CREATED, response.getResults().get(0).getOutcome());
+        assertEquals(101L, response.getResults().get(0).getId());
+        assertEquals(BatchItemOutcome.INVALID, response.getResults().get(1).getOutcome());
+        assertEquals("Title is required", response.getResults().get(1).getValidationErrors().get("title"));
+        assertEquals("Third", response.getResults().get(2).getTask().getTitle());
+        verify(taskRepository, times(1)).saveAll(argThat(tasks -> ((List<?>) tasks).size() == 2));
+        verify(taskRepository, times(1)).flush();
+        verify(eventPublisher, times(2)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void updateTasks_ShouldReportMissingTasksAsNotFound() {
+        Task existing = task(1L, TaskStatus.TODO);
+        when(taskRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(existing));
+
+        BatchResponse response = taskBatchService.updateTasks(List.of(
+            new BatchTaskUpdate(1L, request("Renamed")),
+            new BatchTaskUpdate(2L, request("Missing"))));
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(BatchItemOutcome.UPDATED, response.getResults().get(0).getOutcome());
+        assertEquals("Renamed", response.getResults().get(0).getTask().getTitle());
+        assertEquals(BatchItemOutcome.NOT_FOUND, response.getResults().get(1).getOutcome());
+        assertEquals("Renamed", existing.getTitle());
+    }
+
+    @Test
+    void updateStatuses_ShouldUpdateLoadedTasksAndRejectMissingStatus() {
+        Task existing = task(1L, TaskStatus.TODO);
+        when(taskRepository.findAllById(Set.of(1L))).thenReturn(List.of(existing));
+
+        BatchResponse response = taskBatchService.updateStatuses(List.of(
+            new BatchStatusUpdate(1L, TaskStatus.COMPLETED),
+            new BatchStatusUpdate(1L, null)));
+
+        assertEquals(TaskStatus.COMPLETED, existing.getStatus());
+        assertEquals(BatchItemOutcome.UPDATED, response.getResults().get(0).getOutcome());
+        assertEquals(BatchItemOutcome.INVALID, response.getResults().get(1).getOutcome());
+        verify(eventPublisher, times(1)).publishEvent(argThat((TaskChangedEvent event) ->
+            event.previous().getStatus() == TaskStatus.TODO && event.task().getStatus() == TaskStatus.COMPLETED));
+    }
+
+    @Test
+    void deleteTasks_ShouldDeleteExistingIdsInOneBatch() {
+        TaskResponse first = TaskResponse.fromTask(task(1L, TaskStatus.TODO));
+        TaskResponse third = TaskResponse.fromTask(task(3L, TaskStatus.COMPLETED));
+        when(taskRepository.findResponsesByIdIn(Set.of(1L, 2L, 3L))).thenReturn(List.of(first, third));
+
+        BatchResponse response = taskBatchService.deleteTasks(Arrays.asList(1L, 2L, 3L, null));
+
+        assertEquals(2, response.getSucceeded());
+        assertEquals(2, response.getFailed());
+        assertEquals(BatchItemOutcome.NOT_FOUND, response.getResults().get(1).getOutcome());
+        assertEquals(BatchItemOutcome.INVALID, response.getResults().get(3).getOutcome());
+        verify(taskRepository, times(1)).deleteAllByIdInBatch(Set.of(1L, 3L));
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.deleted(first));
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.deleted(third));
+    }
+
+    @Test
+    void batchOperations_WithEmptyOrOversizedBatch_ShouldThrowBadRequest() {
+        List<Long> oversized = new ArrayList<>(Collections.nCopies(TaskBatchService.MAX_BATCH_SIZE + 1, 1L));
+
+        assertThrows(BadRequestException.class, () -> taskBatchService.createTasks(List.of()));
+        assertThrows(BadRequestException.class, () -> taskBatchService.deleteTasks(oversized));
+        verifyNoInteractions(taskRepository);
+    }
+
+    private TaskRequest request(String title) {
+        return new TaskRequest(title, null, TaskStatus.TODO, DUE);
+    }
+
+    private Task task(Long id, TaskStatus status) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus(status);
+        task.setDueDateTime(DUE);
+        return task;
+    }
+}
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.taskmanager.model.ChangeLogLease;
+import uk.gov.hmcts.taskmanager.repository.ChangeLogLeaseRepository;
+import uk.gov.hmcts.taskmanager.repository.SyncClientRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskTombstoneRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskChangeLogTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private SyncClientRepository syncClientRepository;
+
+    @Mock
+    private ChangeLogLeaseRepository leaseRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        changeLog = new TaskChangeLog(taskRepository, tombstoneRepository, syncClientRepository, leaseRepository,
+            transactionManager, TaskShards.single(), Duration.ofSeconds(30), "this-instance");
+    }
+
+    @Test
+    void seed_WhenAnotherInstanceHoldsTheLease_ShouldFailToStart() {
+        when(leaseRepository.findForUpdate(ChangeLogLease.ID))
+            .thenReturn(Optional.of(lease("other-instance", LocalDateTime.now().minusSeconds(5))));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, changeLog::seed);
+        assertTrue(e.getMessage().contains("other-instance"));
+        verify(leaseRepository, never()).save(any());
+    }
+
+    @Test
+    void seed_WhenTheLeaseHasExpired_ShouldTakeItOver() {
+        when(leaseRepository.findForUpdate(ChangeLogLease.ID))
+            .thenReturn(Optional.of(lease("other-instance", LocalDateTime.now().minusMinutes(1))));
+        when(leaseRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        changeLog.seed();
+
+        verify(leaseRepository).save(argThat(lease -> lease.getOwner().equals("this-instance")));
+    }
+
+    @Test
+    void renewLease_WhenAnotherInstanceHasTakenItOver_ShouldRefuseTaskWrites() {
+        when(leaseRepository.findForUpdate(ChangeLogLease.ID))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(lease("other-instance", LocalDateTime.now())));
+        when(leaseRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        changeLog.seed();
+
+        changeLog.renewLease();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThrows(IllegalStateException.class, changeLog::next);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static ChangeLogLease lease(String owner, LocalDateTime renewedAt) {
+        return new ChangeLogLease(ChangeLogLease.ID, owner, renewedAt);
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventFeedTest {
+
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private final TaskEventFeed feed = new TaskEventFeed(16, Duration.ofMinutes(1), Duration.ofSeconds(1), 1,
+        Duration.ofMillis(200));
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        feed.shutdown();
+    }
+
+    @Test
+    void stalledSubscriber_ShouldBeDroppedWithoutHoldingUpOthers() throws Exception {
+        feed.subscribe(new StalledEmitter(), null);
+        feed.onTaskChanged(TaskChangedEvent.created(task(1L)));
+
+        CountingEmitter reader = new CountingEmitter(1);
+        feed.subscribe(reader, null);
+        feed.onTaskChanged(TaskChangedEvent.created(task(2L)));
+
+        assertTrue(reader.received.await(5, TimeUnit.SECONDS));
+        assertEquals(1, feed.subscriberCount());
+    }
+
+    private static TaskResponse task(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskResponse(id, "Task " + id, null, TaskStatus.TODO, now.plusDays(1), now, now, 0L);
+    }
+
+    /** Accepts the opening event, then blocks every write like a client that stopped reading. */
+    private final class StalledEmitter extends SseEmitter {
+
+        private final AtomicInteger sends = new AtomicInteger();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (sends.getAndIncrement() > 0) {
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private static final class CountingEmitter extends SseEmitter {
+
+        private final CountDownLatch received;
+        private final AtomicInteger sends = new AtomicInteger();
+
+        private CountingEmitter(int events) {
+            this.received = new CountDownLatch(events);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (sends.getAndIncrement() > 0) {
+                received.countDown();
+            }
+        }
+    }
+}
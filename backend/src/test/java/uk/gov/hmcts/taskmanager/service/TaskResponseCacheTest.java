@@ -0,0 +1,108 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.taskmanager.dto.CacheStatsResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+import uk.gov.hmcts.taskmanager.exception.ResourceNotFoundException;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskResponseCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<Long, TaskResponse> loader = id -> {
+        loads.incrementAndGet();
+        return response(id, "Task " + id, TaskStatus.TODO);
+    };
+
+    @Test
+    void get_ShouldLoadOnceAndServeCopiesFromCache() {
+        TaskResponseCache cache = new TaskResponseCache(true, 100, Duration.ofMinutes(5));
+
+        TaskResponse first = cache.get(1L, loader);
+        first.setTitle("Mutated by caller");
+        TaskResponse second = cache.get(1L, loader);
+
+        assertEquals(1, loads.get());
+        assertEquals("Task 1", second.getTitle());
+        assertNotSame(first, second);
+
+        CacheStatsResponse stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void get_WhenLoaderThrows_ShouldNotCacheMiss() {
+        TaskResponseCache cache = new TaskResponseCache(true, 100, Duration.ofMinutes(5));
+        Function<Long, TaskResponse> missing = id -> {
+            throw new ResourceNotFoundException("Task not found with id: " + id);
+        };
+
+        assertThrows(ResourceNotFoundException.class, () -> cache.get(9L, missing));
+        assertEquals(0, cache.stats().getSize());
+    }
+
+    @Test
+    void onTaskChanged_ShouldRefreshUpdatedAndEvictDeletedEntries() {
+        TaskResponseCache cache = new TaskResponseCache(true, 100, Duration.ofMinutes(5));
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        cache.onTaskChanged(TaskChangedEvent.updated(
+            response(1L, "Task 1", TaskStatus.TODO), response(1L, "Renamed", TaskStatus.COMPLETED, 1L)));
+        cache.onTaskChanged(TaskChangedEvent.deleted(response(2L, "Task 2", TaskStatus.TODO)));
+        cache.onTaskChanged(TaskChangedEvent.updated(
+            response(3L, "Task 3", TaskStatus.TODO), response(3L, "Not cached", TaskStatus.TODO)));
+
+        assertEquals("Renamed", cache.get(1L, loader).getTitle());
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().getSize());
+        cache.get(2L, loader);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void onTaskChanged_WhenAnOlderUpdateArrivesLate_ShouldEvictRatherThanServeIt() {
+        TaskResponseCache cache = new TaskResponseCache(true, 100, Duration.ofMinutes(5));
+        cache.get(1L, loader);
+        TaskResponse original = response(1L, "Task 1", TaskStatus.TODO);
+
+        cache.onTaskChanged(TaskChangedEvent.updated(original, response(1L, "Second", TaskStatus.TODO, 2L)));
+        cache.onTaskChanged(TaskChangedEvent.updated(original, response(1L, "First", TaskStatus.TODO, 1L)));
+
+        assertEquals(0, cache.stats().getSize());
+        assertEquals("Task 1", cache.get(1L, loader).getTitle());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenDisabled_ShouldAlwaysLoad() {
+        TaskResponseCache cache = new TaskResponseCache(false, 100, Duration.ofMinutes(5));
+
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+        assertFalse(cache.stats().isEnabled());
+        assertEquals(0, cache.stats().getHitCount());
+    }
+
+    private TaskResponse response(Long id, String title, TaskStatus status) {
+        return response(id, title, status, 0L);
+    }
+
+    private TaskResponse response(Long id, String title, TaskStatus status, long version) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskResponse(id, title, null, status, now.plusDays(1), now, now, version);
+    }
+}
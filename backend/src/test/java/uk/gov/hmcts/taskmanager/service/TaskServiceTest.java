@@ -3,16 +3,26 @@ package uk.gov.hmcts.taskmanager.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.ApplicationEventPublisher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.taskmanager.dto.TaskFilter;
+import uk.gov.hmcts.taskmanager.dto.TaskPageResponse;
 import uk.gov.hmcts.taskmanager.dto.TaskRequest;
 import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+import uk.gov.hmcts.taskmanager.exception.BadRequestException;
+import uk.gov.hmcts.taskmanager.exception.ConflictException;
+import uk.gov.hmcts.taskmanager.exception.PreconditionFailedException;
 import uk.gov.hmcts.taskmanager.exception.ResourceNotFoundException;
 import uk.gov.hmcts.taskmanager.model.Task;
 import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.repository.ArchivedTaskRepository;
 import uk.gov.hmcts.taskmanager.repository.TaskRepository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -20,6 +30,10 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +42,30 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Spy
+    private TaskResponseCache taskResponseCache = new TaskResponseCache(false, 100, Duration.ofMinutes(5));
+
+    @Mock
+    private TaskStatusCounters taskStatusCounters;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Spy
+    private TaskIdFilter taskIdFilter = new TaskIdFilter(null, null, null, TaskShards.single(), true, 1 << 20);
+
+    @Mock
+    private TaskChangeLog taskChangeLog;
+
+    @Spy
+    private TaskShards taskShards = TaskShards.single();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -65,6 +103,7 @@ class TaskServiceTest {
         assertEquals("Test Description", response.getDescription());
         assertEquals(TaskStatus.TODO, response.getStatus());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.created(response));
     }
 
     @Test
@@ -87,6 +126,28 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).findById(1L);
     }
 
+    @Test
+    void getTaskById_WhenTaskIsArchived_ShouldReturnArchivedTask() {
+        TaskResponse archived = TaskResponse.fromTask(task);
+        archived.setStatus(TaskStatus.COMPLETED);
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findResponseById(1L)).thenReturn(Optional.of(archived));
+
+        assertEquals(archived, taskService.getTaskById(1L));
+    }
+
+    @Test
+    void getTaskById_WhenIdFilterRulesTaskOut_ShouldThrowWithoutQuerying() {
+        taskIdFilter.markReady();
+        taskIdFilter.onTaskWritten(TaskChangedEvent.created(TaskResponse.fromTask(task)));
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(2L));
+        verify(taskRepository, never()).findById(anyLong());
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        assertEquals("Test Task", taskService.getTaskById(1L).getTitle());
+    }
+
     @Test
     void getAllTasks_ShouldReturnListOfTasks() {
         Task task2 = new Task();
@@ -95,42 +156,148 @@ class TaskServiceTest {
         task2.setStatus(TaskStatus.IN_PROGRESS);
         task2.setDueDateTime(LocalDateTime.now().plusDays(2));
 
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(task, task2));
+        when(taskRepository.findAllResponses())
+            .thenReturn(Arrays.asList(TaskResponse.fromTask(task), TaskResponse.fromTask(task2)));
 
         List<TaskResponse> responses = taskService.getAllTasks();
 
         assertNotNull(responses);
         assertEquals(2, responses.size());
-        verify(taskRepository, times(1)).findAll();
+        verify(taskRepository, times(1)).findAllResponses();
+        verify(taskRepository, never()).findAll();
     }
 
     @Test
-    void updateTaskStatus_WhenTaskExists_ShouldUpdateStatus() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+    void getTaskPage_WhenMoreRowsExist_ShouldReturnNextCursor() {
+        Task task2 = new Task();
+        task2.setId(2L);
+        task2.setTitle("Task 2");
+        task2.setStatus(TaskStatus.TODO);
+        task2.setDueDateTime(task.getDueDateTime().plusHours(1));
 
-        TaskResponse response = taskService.updateTaskStatus(1L, TaskStatus.COMPLETED);
+        when(taskRepository.findPage(any(), eq(2))).thenReturn(Arrays.asList(task, task2));
 
-        assertNotNull(response);
-        assertEquals(TaskStatus.COMPLETED, task.getStatus());
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(task);
+        TaskPageResponse page = taskService.getTaskPage(new TaskFilter(), null, 1);
+
+        assertEquals(1, page.getTasks().size());
+        assertEquals(1L, page.getTasks().get(0).getId());
+        TaskCursor cursor = TaskCursor.decode(page.getNextCursor());
+        assertEquals(task.getDueDateTime(), cursor.dueDateTime());
+        assertEquals(1L, cursor.id());
+    }
+
+    @Test
+    void getTaskPage_OnLastPage_ShouldNotReturnCursor() {
+        when(taskRepository.findPage(any(), eq(TaskService.DEFAULT_PAGE_SIZE + 1))).thenReturn(List.of(task));
+
+        String cursor = new TaskCursor(task.getDueDateTime().minusDays(1), 7L).encode();
+        TaskPageResponse page = taskService.getTaskPage(new TaskFilter(), cursor, null);
+
+        assertEquals(1, page.getTasks().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getTaskPage_WhenOverdue_ShouldStillQueryRepository() {
+        when(taskRepository.findPage(any(), eq(11))).thenReturn(List.of());
+
+        TaskPageResponse page = taskService.getTaskPage(new TaskFilter(null, null, null, true), null, 10);
+
+        assertTrue(page.getTasks().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(taskRepository, times(1)).findPage(any(), eq(11));
+    }
+
+    @Test
+    void getTaskPage_WithInvalidCursorOrSize_ShouldThrowBadRequest() {
+        TaskFilter filter = new TaskFilter();
+
+        assertThrows(BadRequestException.class, () -> taskService.getTaskPage(filter, "not-a-cursor", 10));
+        assertThrows(BadRequestException.class, () -> taskService.getTaskPage(filter, null, 0));
+        assertThrows(BadRequestException.class,
+            () -> taskService.getTaskPage(filter, null, TaskService.MAX_PAGE_SIZE + 1));
+        verify(taskRepository, never()).findPage(any(), anyInt());
+    }
+
+    @Test
+    void searchTasks_ShouldReturnTasksInRankOrder() {
+        Task other = new Task(2L, "Other Task", null, TaskStatus.TODO, task.getDueDateTime(), null, null, 0L, 0L);
+        when(taskSearchIndex.search("task", TaskService.DEFAULT_SEARCH_LIMIT)).thenReturn(List.of(2L, 1L));
+        when(taskRepository.findResponsesByIdIn(List.of(2L, 1L)))
+            .thenReturn(List.of(TaskResponse.fromTask(task), TaskResponse.fromTask(other)));
+
+        List<TaskResponse> results = taskService.searchTasks("task", null);
+
+        assertEquals(List.of(2L, 1L), results.stream().map(TaskResponse::getId).toList());
+    }
+
+    @Test
+    void searchTasks_WithBlankQueryOrInvalidLimit_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> taskService.searchTasks(" ", null));
+        assertThrows(BadRequestException.class,
+            () -> taskService.searchTasks("task", TaskService.MAX_SEARCH_LIMIT + 1));
+        verifyNoInteractions(taskSearchIndex);
+    }
+
+    @Test
+    void updateTaskStatus_WhenTaskExists_ShouldUpdateInOneStatement() {
+        task.setVersion(4L);
+        TaskResponse previous = TaskResponse.fromTask(task);
+        when(taskRepository.updateStatusReturningPrevious(eq(1L), eq(TaskStatus.COMPLETED), any(), anyLong(), isNull()))
+            .thenReturn(Optional.of(previous));
+
+        TaskResponse response = taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, null);
+
+        assertEquals(TaskStatus.COMPLETED, response.getStatus());
+        assertEquals("Test Task", response.getTitle());
+        assertEquals(5L, response.getVersion());
+        verify(taskRepository, never()).findById(any());
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.updated(previous, response));
+    }
+
+    @Test
+    void updateTaskStatus_WithoutStatus_ShouldThrowBadRequestBeforeWriting() {
+        assertThrows(BadRequestException.class, () -> taskService.updateTaskStatus(1L, null, null));
+        verifyNoInteractions(taskChangeLog);
+        verify(taskRepository, never()).updateStatusReturningPrevious(any(), any(), any(), anyLong(), any());
     }
 
     @Test
     void updateTaskStatus_WhenTaskNotFound_ShouldThrowException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.updateStatusReturningPrevious(eq(1L), eq(TaskStatus.COMPLETED), any(), anyLong(), isNull()))
+            .thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class,
-            () -> taskService.updateTaskStatus(1L, TaskStatus.COMPLETED));
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, never()).save(any(Task.class));
+            () -> taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, null));
+        verify(taskRepository, never()).existsById(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateTaskStatus_WhenVersionDoesNotMatch_ShouldThrowPreconditionFailed() {
+        when(taskRepository.updateStatusReturningPrevious(eq(1L), eq(TaskStatus.COMPLETED), any(), anyLong(), eq(1L)))
+            .thenReturn(Optional.empty());
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(PreconditionFailedException.class,
+            () -> taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, 1L));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateTask_WhenVersionDoesNotMatch_ShouldThrowPreconditionFailed() {
+        task.setVersion(2L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTask(1L, taskRequest, 1L));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void updateTask_WhenTaskExists_ShouldUpdateTask() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(task);
 
         TaskRequest updateRequest = new TaskRequest();
         updateRequest.setTitle("Updated Title");
@@ -138,33 +305,44 @@ class TaskServiceTest {
         updateRequest.setStatus(TaskStatus.IN_PROGRESS);
         updateRequest.setDueDateTime(LocalDateTime.now().plusDays(3));
 
-        TaskResponse response = taskService.updateTask(1L, updateRequest);
+        TaskResponse response = taskService.updateTask(1L, updateRequest, null);
 
         assertNotNull(response);
         assertEquals("Updated Title", task.getTitle());
         assertEquals("Updated Description", task.getDescription());
         assertEquals(TaskStatus.IN_PROGRESS, task.getStatus());
         verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(task);
+        verify(taskRepository, times(1)).saveAndFlush(task);
     }
 
     @Test
-    void deleteTask_WhenTaskExists_ShouldDeleteTask() {
-        when(taskRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(taskRepository).deleteById(1L);
+    void deleteTask_WhenTaskExists_ShouldDeleteInOneStatement() {
+        TaskResponse previous = TaskResponse.fromTask(task);
+        when(taskRepository.deleteReturningPrevious(1L)).thenReturn(Optional.of(previous));
 
         taskService.deleteTask(1L);
 
-        verify(taskRepository, times(1)).existsById(1L);
-        verify(taskRepository, times(1)).deleteById(1L);
+        verify(taskRepository, never()).findById(any());
+        verify(taskChangeLog, times(1)).recordDelete(1L);
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.deleted(previous));
+    }
+
+    @Test
+    void updateAndDelete_WhenTaskIsArchived_ShouldThrowConflict() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.deleteReturningPrevious(1L)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> taskService.updateTask(1L, taskRequest, null));
+        assertThrows(ConflictException.class, () -> taskService.deleteTask(1L));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void deleteTask_WhenTaskNotFound_ShouldThrowException() {
-        when(taskRepository.existsById(1L)).thenReturn(false);
+        when(taskRepository.deleteReturningPrevious(1L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTask(1L));
-        verify(taskRepository, times(1)).existsById(1L);
-        verify(taskRepository, never()).deleteById(any());
+        verifyNoInteractions(eventPublisher);
     }
 }
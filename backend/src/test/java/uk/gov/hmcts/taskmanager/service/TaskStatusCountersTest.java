@@ -0,0 +1,126 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskStatsResponse;
+import uk.gov.hmcts.taskmanager.event.TaskChangedEvent;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+import uk.gov.hmcts.taskmanager.repository.TaskRepository;
+import uk.gov.hmcts.taskmanager.repository.TaskStatusCount;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatusCountersTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private OverdueTracker overdueTracker;
+
+    private TaskStatusCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new TaskStatusCounters(taskRepository, overdueTracker, TaskShards.single());
+    }
+
+    @Test
+    void onTaskChanged_ShouldMoveCountsBetweenStatuses() {
+        TaskResponse created = task(1L, TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        TaskResponse completed = task(1L, TaskStatus.COMPLETED, created.getDueDateTime());
+
+        counters.onTaskChanged(TaskChangedEvent.created(created));
+        counters.onTaskChanged(TaskChangedEvent.created(task(2L, TaskStatus.IN_PROGRESS, LocalDateTime.now().minusDays(1))));
+        counters.onTaskChanged(TaskChangedEvent.updated(created, completed));
+
+        TaskStatsResponse stats = counters.snapshot();
+        assertEquals(0, stats.getByStatus().get(TaskStatus.TODO));
+        assertEquals(1, stats.getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(1, stats.getByStatus().get(TaskStatus.COMPLETED));
+        assertEquals(2, stats.getTotal());
+    }
+
+    @Test
+    void onTaskChanged_WhenTaskIsDeleted_ShouldDecrementItsStatus() {
+        TaskResponse task = task(1L, TaskStatus.TODO, LocalDateTime.now().minusHours(1));
+        counters.onTaskChanged(TaskChangedEvent.created(task));
+
+        counters.onTaskChanged(TaskChangedEvent.deleted(task));
+
+        assertEquals(0, counters.snapshot().getByStatus().get(TaskStatus.TODO));
+        assertEquals(0, counters.snapshot().getTotal());
+    }
+
+    @Test
+    void snapshot_ShouldTakeOverdueCountFromTracker() {
+        when(overdueTracker.overdueCount()).thenReturn(3L);
+
+        assertEquals(3, counters.snapshot().getOverdue());
+    }
+
+    @Test
+    void reconcile_ShouldReplaceCountersWithDatabaseTotals() {
+        counters.onTaskChanged(TaskChangedEvent.created(task(1L, TaskStatus.TODO, LocalDateTime.now().plusDays(1))));
+        when(taskRepository.countAllByStatus()).thenReturn(List.of(
+            count(TaskStatus.TODO, 5),
+            count(TaskStatus.COMPLETED, 7)));
+
+        counters.reconcile();
+
+        TaskStatsResponse stats = counters.snapshot();
+        assertEquals(5, stats.getByStatus().get(TaskStatus.TODO));
+        assertEquals(0, stats.getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(7, stats.getByStatus().get(TaskStatus.COMPLETED));
+        assertEquals(12, stats.getTotal());
+        assertNotNull(stats.getReconciledAt());
+    }
+
+    @Test
+    void reconcile_WhenWritesCommitDuringQuery_ShouldApplyThemToTheTotals() {
+        TaskResponse open = task(1L, TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        counters.onTaskChanged(TaskChangedEvent.created(open));
+        when(taskRepository.countAllByStatus()).thenAnswer(invocation -> {
+            counters.onTaskChanged(TaskChangedEvent.updated(open, task(1L, TaskStatus.COMPLETED, open.getDueDateTime())));
+            counters.onTaskChanged(TaskChangedEvent.created(task(2L, TaskStatus.TODO, LocalDateTime.now().plusDays(1))));
+            return List.of(count(TaskStatus.TODO, 9));
+        });
+
+        counters.reconcile();
+
+        TaskStatsResponse stats = counters.snapshot();
+        assertEquals(9, stats.getByStatus().get(TaskStatus.TODO));
+        assertEquals(1, stats.getByStatus().get(TaskStatus.COMPLETED));
+        assertNotNull(stats.getReconciledAt());
+
+        counters.onTaskChanged(TaskChangedEvent.created(task(3L, TaskStatus.TODO, LocalDateTime.now().plusDays(1))));
+        assertEquals(10, counters.snapshot().getByStatus().get(TaskStatus.TODO));
+    }
+
+    private TaskResponse task(Long id, TaskStatus status, LocalDateTime due) {
+        return new TaskResponse(id, "Task " + id, null, status, due, LocalDateTime.now(), LocalDateTime.now(), 0L);
+    }
+
+    private TaskStatusCount count(TaskStatus status, long total) {
+        return new TaskStatusCount() {
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
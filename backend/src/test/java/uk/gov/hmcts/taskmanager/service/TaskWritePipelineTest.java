@@ -0,0 +1,134 @@
+package uk.gov.hmcts.taskmanager.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.taskmanager.dto.BatchItemResult;
+import uk.gov.hmcts.taskmanager.dto.BatchResponse;
+import uk.gov.hmcts.taskmanager.dto.TaskRequest;
+import uk.gov.hmcts.taskmanager.dto.TaskResponse;
+import uk.gov.hmcts.taskmanager.exception.BadRequestException;
+import uk.gov.hmcts.taskmanager.model.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskWritePipelineTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 2, 1, 10, 0);
+
+    @Mock
+    private TaskBatchService taskBatchService;
+
+    @Mock
+    private TaskService taskService;
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private TaskWritePipeline pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    void create_ShouldCommitConcurrentCallersTogetherAndReturnEachTheirOwnTask() throws Exception {
+        AtomicLong ids = new AtomicLong();
+        List<Integer> batchSizes = new ArrayList<>();
+        when(taskBatchService.createTasks(anyList())).thenAnswer(invocation -> {
+            List<TaskRequest> requests = invocation.getArgument(0);
+            synchronized (batchSizes) {
+                batchSizes.add(requests.size());
+            }
+            List<BatchItemResult> results = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                results.add(BatchItemResult.created(i, response(ids.incrementAndGet(), requests.get(i).getTitle())));
+            }
+            return BatchResponse.of(results);
+        });
+        pipeline = start(Duration.ofMillis(200));
+
+        List<Future<TaskResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String title = "Task " + i;
+            futures.add(callers.submit(() -> pipeline.create(request(title))));
+        }
+
+        for (int i = 0; i < 8; i++) {
+            assertEquals("Task " + i, futures.get(i).get(5, TimeUnit.SECONDS).getTitle());
+        }
+        assertTrue(batchSizes.size() < 8, "expected creates to share batches: " + batchSizes);
+        verify(taskService, never()).createTask(any());
+    }
+
+    @Test
+    void create_WhenItemIsInvalid_ShouldFailOnlyThatCaller() {
+        when(taskBatchService.createTasks(anyList())).thenReturn(BatchResponse.of(List.of(
+            BatchItemResult.invalid(0, null, Map.of("title", "Title is required")))));
+        pipeline = start(Duration.ZERO);
+
+        assertThrows(BadRequestException.class, () -> pipeline.create(request(null)));
+    }
+
+    @Test
+    void create_WhenBatchFails_ShouldRetryItemsOneAtATime() throws Exception {
+        when(taskBatchService.createTasks(anyList())).thenThrow(new IllegalStateException("constraint violation"));
+        when(taskService.createTask(any())).thenAnswer(invocation -> {
+            TaskRequest request = invocation.getArgument(0);
+            if (request.getTitle().equals("Bad")) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return response(1L, request.getTitle());
+        });
+        pipeline = start(Duration.ofMillis(100));
+
+        Future<TaskResponse> good = callers.submit(() -> pipeline.create(request("Good")));
+        Future<TaskResponse> bad = callers.submit(() -> pipeline.create(request("Bad")));
+
+        assertEquals("Good", good.get(5, TimeUnit.SECONDS).getTitle());
+        Exception failure = assertThrows(Exception.class, () -> bad.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+
+    @Test
+    void create_WhenDisabled_ShouldRefuse() {
+        pipeline = new TaskWritePipeline(taskBatchService, taskService, false, 16, Duration.ZERO, 100);
+        pipeline.start();
+
+        assertFalse(pipeline.isEnabled());
+        assertThrows(IllegalStateException.class, () -> pipeline.create(request("Task")));
+    }
+
+    private TaskWritePipeline start(Duration maxDelay) {
+        TaskWritePipeline started = new TaskWritePipeline(taskBatchService, taskService, true, 16, maxDelay, 100);
+        started.start();
+        return started;
+    }
+
+    private static TaskRequest request(String title) {
+        return new TaskRequest(title, null, TaskStatus.TODO, DUE);
+    }
+
+    private static TaskResponse response(Long id, String title) {
+        return new TaskResponse(id, title, null, TaskStatus.TODO, DUE, DUE, DUE, 0L);
+    }
+}
@@ -16,6 +16,7 @@ const taskCount = document.getElementById('task-count');
 // Initialize
 document.addEventListener('DOMContentLoaded', () => {
     loadTasks();
+    subscribeToTaskEvents();
     taskForm.addEventListener('submit', handleSubmit);
     cancelBtn.addEventListener('click', handleCancel);
 });
@@ -41,6 +42,36 @@ async function loadTasks() {
     }
 }
 
+// Applies changes pushed by the server instead of re-fetching the whole list.
+// EventSource reconnects on its own and sends Last-Event-ID, so missed changes
+// are replayed; a 'resync' event means they are gone and the list is reloaded.
+function subscribeToTaskEvents() {
+    if (!window.EventSource) {
+        return;
+    }
+    const events = new EventSource('/api/tasks/events');
+    ['created', 'updated', 'status'].forEach(type => {
+        events.addEventListener(type, e => upsertTask(JSON.parse(e.data).task));
+    });
+    events.addEventListener('deleted', e => removeTask(JSON.parse(e.data).taskId));
+    events.addEventListener('resync', () => loadTasks());
+}
+
+function upsertTask(task) {
+    const index = tasks.findIndex(t => t.id === task.id);
+    if (index === -1) {
+        tasks.push(task);
+    } else {
+        tasks[index] = task;
+    }
+    renderTasks();
+}
+
+function removeTask(id) {
+    tasks = tasks.filter(t => t.id !== id);
+    renderTasks();
+}
+
 async function createTask(taskData) {
     const response = await fetch('/api/tasks', {
         method: 'POST',
@@ -120,17 +151,16 @@ async function handleSubmit(e) {
         submitBtn.textContent = 'Saving...';
 
         if (editingTaskId) {
-            await updateTask(editingTaskId, taskData);
+            upsertTask(await updateTask(editingTaskId, taskData));
             showSuccess('Task updated successfully!');
         } else {
-            await createTask(taskData);
+            upsertTask(await createTask(taskData));
             showSuccess('Task created successfully!');
         }
 
         taskForm.reset();
         editingTaskId = null;
         updateFormUI();
-        await loadTasks();
     } catch (error) {
         console.error('Error saving task:', error);
 
@@ -170,8 +200,7 @@ function handleEdit(task) {
 async function handleStatusChange(id, status) {
     try {
         hideError();
-        await updateTaskStatus(id, status);
-        await loadTasks();
+        upsertTask(await updateTaskStatus(id, status));
         showSuccess('Task status updated successfully!');
     } catch (error) {
         showError('Failed to update task status. Please try again.');
@@ -187,7 +216,7 @@ async function handleDelete(id) {
     try {
         hideError();
         await deleteTask(id);
-        await loadTasks();
+        removeTask(id);
         showSuccess('Task deleted successfully!');
     } catch (error) {
         showError('Failed to delete task. Please try again.');
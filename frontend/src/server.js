@@ -25,6 +25,45 @@ app.get('/api/tasks', async (req, res) => {
     }
 });
 
+// Server-Sent Events change feed; streamed through so browsers reach the API on this origin.
+// Registered before /api/tasks/:id so "events" is not taken for an id.
+app.get('/api/tasks/events', async (req, res) => {
+    const controller = new AbortController();
+    req.on('close', () => controller.abort());
+
+    const headers = { Accept: 'text/event-stream' };
+    if (req.get('Last-Event-ID')) {
+        headers['Last-Event-ID'] = req.get('Last-Event-ID');
+    }
+
+    try {
+        const response = await axios.get(`${API_BASE_URL}/events`, {
+            headers,
+            responseType: 'stream',
+            signal: controller.signal,
+            timeout: 0
+        });
+        res.writeHead(200, {
+            'Content-Type': 'text/event-stream',
+            'Cache-Control': 'no-cache',
+            'Connection': 'keep-alive',
+            'X-Accel-Buffering': 'no'
+        });
+        res.flushHeaders();
+        response.data.on('error', () => res.end());
+        response.data.pipe(res);
+    } catch (error) {
+        if (controller.signal.aborted) {
+            return;
+        }
+        console.error('Error opening task event stream:', error.message);
+        res.status(error.response?.status || 502).json({
+            error: 'Failed to open task event stream',
+            message: error.message
+        });
+    }
+});
+
 app.get('/api/tasks/:id', async (req, res) => {
     try {
         const response = await axios.get(`${API_BASE_URL}/${req.params.id}`);
@@ -1,5 +1,6 @@
 const request = require('supertest');
 const express = require('express');
+const { Readable } = require('stream');
 
 // Mock axios
 jest.mock('axios');
@@ -46,6 +47,42 @@ app.delete('/api/tasks/:id', async (req, res) => {
     }
 });
 
+app.get('/api/tasks/events', async (req, res) => {
+    const controller = new AbortController();
+    req.on('close', () => controller.abort());
+
+    const headers = { Accept: 'text/event-stream' };
+    if (req.get('Last-Event-ID')) {
+        headers['Last-Event-ID'] = req.get('Last-Event-ID');
+    }
+
+    try {
+        const response = await axios.get('http://localhost:8080/api/tasks/events', {
+            headers,
+            responseType: 'stream',
+            signal: controller.signal,
+            timeout: 0
+        });
+        res.writeHead(200, {
+            'Content-Type': 'text/event-stream',
+            'Cache-Control': 'no-cache',
+            'Connection': 'keep-alive',
+            'X-Accel-Buffering': 'no'
+        });
+        res.flushHeaders();
+        response.data.on('error', () => res.end());
+        response.data.pipe(res);
+    } catch (error) {
+        if (controller.signal.aborted) {
+            return;
+        }
+        res.status(error.response?.status || 502).json({
+            error: 'Failed to open task event stream',
+            message: error.message
+        });
+    }
+});
+
 describe('Server API Proxy Endpoints', () => {
     afterEach(() => {
         jest.clearAllMocks();
@@ -141,4 +178,32 @@ describe('Server API Proxy Endpoints', () => {
             expect(response.body).toHaveProperty('error');
         });
     });
+
+    describe('GET /api/tasks/events', () => {
+        test('should stream events and forward Last-Event-ID', async () => {
+            const body = 'id: abc-2\nevent: created\ndata: {"type":"created","taskId":1}\n\n';
+            axios.get.mockResolvedValue({ data: Readable.from([body]) });
+
+            const response = await request(app)
+                .get('/api/tasks/events')
+                .set('Last-Event-ID', 'abc-1');
+
+            expect(response.status).toBe(200);
+            expect(response.headers['content-type']).toBe('text/event-stream');
+            expect(response.text).toBe(body);
+            expect(axios.get).toHaveBeenCalledWith('http://localhost:8080/api/tasks/events', expect.objectContaining({
+                headers: { Accept: 'text/event-stream', 'Last-Event-ID': 'abc-1' },
+                responseType: 'stream'
+            }));
+        });
+
+        test('should report backend errors', async () => {
+            axios.get.mockRejectedValue(new Error('connect ECONNREFUSED'));
+
+            const response = await request(app).get('/api/tasks/events');
+
+            expect(response.status).toBe(502);
+            expect(response.body).toHaveProperty('error');
+        });
+    });
 });